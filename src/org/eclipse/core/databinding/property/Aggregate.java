@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+/**
+ * An aggregate function over the numeric values of a collection property.
+ * <code>null</code> values are ignored by all aggregates.
+ *
+ * @since 1.5
+ * @see org.eclipse.core.databinding.property.list.IListProperty#aggregate(Aggregate)
+ * @see org.eclipse.core.databinding.property.set.ISetProperty#aggregate(Aggregate)
+ * @see org.eclipse.core.databinding.property.map.IMapProperty#aggregate(Aggregate)
+ */
+public final class Aggregate {
+	/**
+	 * The number of non-null values, as an {@link Integer}.
+	 */
+	public static final Aggregate COUNT = new Aggregate("count", Integer.class); //$NON-NLS-1$
+
+	/**
+	 * The sum of the values as a {@link Double}, or 0 if there are no values.
+	 * Integral values (Byte, Short, Integer or Long) are summed exactly before
+	 * they are added to the other values.
+	 */
+	public static final Aggregate SUM = new Aggregate("sum", Double.class); //$NON-NLS-1$
+
+	/**
+	 * The smallest value, or <code>null</code> if there are no values.
+	 */
+	public static final Aggregate MIN = new Aggregate("min", Number.class); //$NON-NLS-1$
+
+	/**
+	 * The largest value, or <code>null</code> if there are no values.
+	 */
+	public static final Aggregate MAX = new Aggregate("max", Number.class); //$NON-NLS-1$
+
+	/**
+	 * The arithmetic mean of the values as a {@link Double}, or
+	 * <code>null</code> if there are no values.
+	 */
+	public static final Aggregate AVERAGE = new Aggregate("average", Double.class); //$NON-NLS-1$
+
+	private final String name;
+	private final Object valueType;
+
+	private Aggregate(String name, Object valueType) {
+		this.name = name;
+		this.valueType = valueType;
+	}
+
+	/**
+	 * Returns the type of the aggregate value.
+	 *
+	 * @return the type of the aggregate value
+	 */
+	public Object getValueType() {
+		return valueType;
+	}
+
+	public String toString() {
+		return name;
+	}
+}
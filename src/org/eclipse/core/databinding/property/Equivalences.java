@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import java.util.Comparator;
+
+import org.eclipse.core.internal.databinding.property.Util;
+
+/**
+ * Contains static methods returning commonly used {@link IEquivalence}
+ * strategies.
+ *
+ * @since 1.5
+ */
+public class Equivalences {
+	private static final IEquivalence<Object> IDENTITY = new IEquivalence<Object>() {
+		public boolean equivalent(Object left, Object right) {
+			return left == right;
+		}
+
+		public boolean isExact() {
+			return true;
+		}
+
+		public String toString() {
+			return "identity"; //$NON-NLS-1$
+		}
+	};
+
+	private static final IEquivalence<Object> EQUALITY = new IEquivalence<Object>() {
+		public boolean equivalent(Object left, Object right) {
+			return Util.equals(left, right);
+		}
+
+		public boolean isExact() {
+			return true;
+		}
+
+		public String toString() {
+			return "equality"; //$NON-NLS-1$
+		}
+	};
+
+	/**
+	 * Returns an equivalence under which two values are equivalent only if
+	 * they are the same instance. This is the cheapest strategy, and is
+	 * appropriate for immutable values which are replaced rather than
+	 * recreated.
+	 *
+	 * @return an equivalence comparing values by identity
+	 */
+	public static IEquivalence<Object> identity() {
+		return IDENTITY;
+	}
+
+	/**
+	 * Returns an equivalence under which two values are equivalent if they
+	 * are both null or {@link Object#equals(Object) equal}. This is the
+	 * strategy used by default.
+	 *
+	 * @return an equivalence comparing values by equality
+	 */
+	public static IEquivalence<Object> equality() {
+		return EQUALITY;
+	}
+
+	/**
+	 * Returns an equivalence under which two non-null values are equivalent
+	 * if the specified comparator considers them equal. A null value is only
+	 * equivalent to another null value.
+	 *
+	 * @param comparator
+	 *            the comparator
+	 * @return an equivalence comparing values with the given comparator
+	 */
+	public static <T> IEquivalence<T> comparator(
+			final Comparator<? super T> comparator) {
+		return new IEquivalence<T>() {
+			public boolean equivalent(T left, T right) {
+				if (left == right)
+					return true;
+				if (left == null || right == null)
+					return false;
+				return comparator.compare(left, right) == 0;
+			}
+
+			public boolean isExact() {
+				// a comparator's equality is transitive
+				return true;
+			}
+
+			public String toString() {
+				return "comparator " + comparator; //$NON-NLS-1$
+			}
+		};
+	}
+
+	/**
+	 * Returns an equivalence under which two non-null numbers are equivalent
+	 * if they differ by no more than the specified tolerance. This strategy
+	 * is useful for suppressing changes to floating point values which are
+	 * caused by noise. A null value is only equivalent to another null value.
+	 *
+	 * @param tolerance
+	 *            the maximum absolute difference between equivalent numbers
+	 * @return an equivalence comparing numbers with the given tolerance
+	 */
+	public static IEquivalence<Number> tolerance(final double tolerance) {
+		if (tolerance < 0 || Double.isNaN(tolerance))
+			throw new IllegalArgumentException("Invalid tolerance: " //$NON-NLS-1$
+					+ tolerance);
+		return new IEquivalence<Number>() {
+			public boolean equivalent(Number left, Number right) {
+				if (left == right)
+					return true;
+				if (left == null || right == null)
+					return false;
+				double l = left.doubleValue();
+				double r = right.doubleValue();
+				if (Double.isNaN(l) || Double.isNaN(r))
+					return Double.isNaN(l) && Double.isNaN(r);
+				return l == r || Math.abs(l - r) <= tolerance;
+			}
+
+			public boolean isExact() {
+				return tolerance == 0;
+			}
+
+			public String toString() {
+				return "tolerance " + tolerance; //$NON-NLS-1$
+			}
+		};
+	}
+}
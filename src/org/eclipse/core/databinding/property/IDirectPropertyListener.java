@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import org.eclipse.core.databinding.observable.IDiff;
+
+/**
+ * A property listener receiving the type, source and diff of property events
+ * as arguments. A {@link NativePropertyListener} calls these methods instead
+ * of {@link #handleEvent(SimplePropertyEvent)}, so that no event object is
+ * allocated per notification.
+ * 
+ * @param <D>
+ *            the type of the diffs
+ * @noextend This interface is not intended to be extended by clients.
+ * @noimplement This interface is not intended to be implemented by clients.
+ * @since 1.5
+ */
+public interface IDirectPropertyListener<D extends IDiff> extends
+		ISimplePropertyListener<D> {
+	/**
+	 * Handles a change of the property on the source.
+	 * 
+	 * @param source
+	 *            the source object whose property changed
+	 * @param diff
+	 *            a diff describing the change in state, or null for an
+	 *            unknown change
+	 */
+	public void handleChange(Object source, D diff);
+
+	/**
+	 * Handles the property becoming stale on the source.
+	 * 
+	 * @param source
+	 *            the source object whose property became stale
+	 */
+	public void handleStale(Object source);
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+/**
+ * Strategy deciding whether two property values are equivalent, i.e. whether
+ * replacing one with the other is a change worth notifying listeners about.
+ * <p>
+ * Property observables compare the last value reported to their listeners
+ * with the current value, so that a series of small changes which are each
+ * equivalent to their predecessor is still reported once the accumulated
+ * change is no longer equivalent.
+ *
+ * @since 1.5
+ * @see Equivalences
+ */
+public interface IEquivalence<T> {
+	/**
+	 * Returns whether the specified values are equivalent.
+	 *
+	 * @param left
+	 *            the left value (may be null)
+	 * @param right
+	 *            the right value (may be null)
+	 * @return whether the specified values are equivalent
+	 */
+	public boolean equivalent(T left, T right);
+
+	/**
+	 * Returns whether this equivalence is exact, i.e. transitive, so that
+	 * equivalent values are interchangeable. Property observables replace a
+	 * cached value with an equivalent new value only if the equivalence is
+	 * exact; otherwise they keep the value last reported, so that small
+	 * changes accumulate.
+	 *
+	 * @return whether equivalent values are interchangeable
+	 */
+	public boolean isExact();
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+/**
+ * Receives the timed operations traced while {@link PropertyTracing} is
+ * enabled for their category.
+ * <p>
+ * Implementations are called synchronously on the thread which performed the
+ * operation, often the UI thread, and must therefore return quickly, e.g. by
+ * appending to a buffer which is written out elsewhere.
+ * 
+ * @since 1.5
+ */
+public interface IPropertyTraceListener {
+	/**
+	 * Called when a traced operation completes.
+	 * 
+	 * @param category
+	 *            the category of the operation, one of the category constants
+	 *            of {@link PropertyTracing}
+	 * @param property
+	 *            the property whose observable performed the operation
+	 * @param sourceClass
+	 *            the class of the property source, or <code>null</code> if
+	 *            unknown
+	 * @param diffSize
+	 *            the number of diff entries involved or, for
+	 *            {@link PropertyTracing#SNAPSHOT snapshots}, the number of
+	 *            elements copied, or -1 if not applicable
+	 * @param durationNanos
+	 *            the duration of the operation in nanoseconds
+	 */
+	public void traced(int category, IProperty property, Class<?> sourceClass,
+			int diffSize, long durationNanos);
+}
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+/**
+ * Mix-in interface for the unmodifiable collections returned by the getters
+ * of derived collection properties, such as
+ * {@link org.eclipse.core.databinding.property.list.IListProperty#getList(Object)}
+ * , which are computed lazily from the collections of other properties
+ * instead of being copied. Such a view resolves its contents on access, so it
+ * may reflect later changes of the collections it is computed from; callers
+ * which need a stable copy should call {@link #snapshot()}.
+ * 
+ * @param <C>
+ *            the type of the collection
+ * @since 1.5
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface IPropertyView<C> {
+	/**
+	 * Returns a modifiable copy of the current contents of this view.
+	 * 
+	 * @return a copy of the current contents of this view
+	 */
+	public C snapshot();
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.databinding.property.value.RateLimit;
+
+/**
+ * Mix-in interface for observables which coalesce the change events of
+ * another observable according to a {@link RateLimit}. The counters allow
+ * clients to monitor how effective the rate limit is.
+ * <p>
+ * The observables returned by the properties created with
+ * {@link IValueProperty#rateLimited(RateLimit)} implement this interface.
+ *
+ * @since 1.5
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface IRateLimitedObservable {
+	/**
+	 * Returns the rate limit applied by this observable.
+	 *
+	 * @return the rate limit applied by this observable
+	 */
+	public RateLimit getRateLimit();
+
+	/**
+	 * Returns the number of change events delivered to the listeners of this
+	 * observable.
+	 *
+	 * @return the number of change events delivered
+	 */
+	public long getDeliveredCount();
+
+	/**
+	 * Returns the number of change events received from the underlying
+	 * observable which were superseded by a later change before delivery, or
+	 * which were reverted before delivery.
+	 *
+	 * @return the number of change events dropped
+	 */
+	public long getDroppedCount();
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import java.util.Iterator;
+
+/**
+ * A read-only iterator over a range of elements which can be split in two,
+ * so that the elements can be traversed by several threads in parallel, e.g.
+ * by recursively splitting the iterator and submitting the parts to an
+ * executor.
+ * <p>
+ * The number of remaining elements is always known exactly, both before and
+ * after splitting. An iterator over the contents of an observable checks
+ * for concurrent modification of the observable, and throws a
+ * {@link java.util.ConcurrentModificationException} from {@link #next()} if
+ * the observable was modified after the iterator was created.
+ * 
+ * @param <E>
+ *            the type of the elements
+ * @since 1.5
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface ISplitIterator<E> extends Iterator<E> {
+	/**
+	 * Splits off the first half of the remaining elements into a new
+	 * iterator, leaving the second half to this iterator.
+	 * 
+	 * @return an iterator over the first half of the remaining elements, or
+	 *         <code>null</code> if the remaining elements are too few to be
+	 *         split
+	 */
+	public ISplitIterator<E> trySplit();
+
+	/**
+	 * Returns the number of elements this iterator has yet to return.
+	 * 
+	 * @return the number of remaining elements
+	 */
+	public int getRemaining();
+}
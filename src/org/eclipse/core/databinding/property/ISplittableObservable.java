@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+/**
+ * Mix-in interface for observable collections which can be traversed by a
+ * {@link ISplitIterator}.
+ * <p>
+ * The observable lists and sets returned by simple list and set properties
+ * implement this interface.
+ * 
+ * @param <E>
+ *            the type of the elements
+ * @since 1.5
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface ISplittableObservable<E> {
+	/**
+	 * Returns a splittable iterator over the current contents of this
+	 * observable, which fails if this observable is modified before the
+	 * traversal completes.
+	 * 
+	 * @return a splittable iterator over the contents of this observable
+	 */
+	public ISplitIterator<E> splitIterator();
+}
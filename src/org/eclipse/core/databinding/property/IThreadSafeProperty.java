@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Optional interface for properties whose getter and native listener may be
+ * used concurrently from threads other than the realm thread. When a detail
+ * observable of such a property starts listening, it reads the initial
+ * values of its master elements and hooks its native listener to them in
+ * parallel chunks on the population executor, and publishes the result in
+ * its realm once all chunks are done.
+ * <p>
+ * This interface may be implemented by subclasses of
+ * {@link org.eclipse.core.databinding.property.value.SimpleValueProperty}.
+ *
+ * @since 1.5
+ */
+public interface IThreadSafeProperty {
+	/**
+	 * Returns the executor on which detail observables of this property
+	 * populate their initial values in parallel.
+	 *
+	 * @return the executor to populate detail observables on, or
+	 *         <code>null</code> to populate them in the realm
+	 */
+	public Executor getPopulationExecutor();
+}
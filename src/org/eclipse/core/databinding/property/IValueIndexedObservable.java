@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+
+/**
+ * Mix-in interface for observable maps which can look up the keys mapped to
+ * a value. While the map has listeners, the lookup is answered from an
+ * inverted index of the map, which is built on first use and then maintained
+ * along with the values reported to the listeners of the map.
+ * <p>
+ * The observable maps returned by {@link IValueProperty#observeDetail}
+ * for simple value properties implement this interface.
+ *
+ * @since 1.5
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface IValueIndexedObservable<K, V> {
+	/**
+	 * Returns the unmodifiable set of keys which this map maps to a value
+	 * equal to the specified value. While the map has listeners, the returned
+	 * set is a live view.
+	 *
+	 * @param value
+	 *            the value to look up
+	 * @return the keys mapped to the value
+	 */
+	public Set<K> getKeysForValue(Object value);
+
+	/**
+	 * Returns an unmodifiable observable map from each value of this map to
+	 * the set of keys mapped to that value. The returned map reports only
+	 * the values whose keys changed, and is disposed along with this map.
+	 *
+	 * @return the inverse of this map
+	 */
+	public IObservableMap<V, Set<K>> getValueIndex();
+}
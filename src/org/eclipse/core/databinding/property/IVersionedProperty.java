@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+/**
+ * Optional interface for properties whose sources maintain a cheap
+ * modification counter. Property observables use the version stamp to tell
+ * that the property is unchanged on a source without reading the property
+ * value and comparing it to the cached value.
+ * <p>
+ * This interface may be implemented by subclasses of
+ * {@link org.eclipse.core.databinding.property.value.SimpleValueProperty}.
+ *
+ * @since 1.5
+ */
+public interface IVersionedProperty<S> {
+	/**
+	 * Returns the current version stamp of this property on the specified
+	 * source. Implementers must ensure that the version stamp changes
+	 * whenever the property value on the source changes. Returning a new
+	 * version stamp for an unchanged value is permitted.
+	 * <p>
+	 * This method is called frequently and must be cheap.
+	 *
+	 * @param source
+	 *            the property source (never null)
+	 * @return the current version stamp of this property on the source
+	 */
+	public long getVersion(S source);
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import org.eclipse.core.databinding.property.value.SimpleValueProperty;
+
+/**
+ * Mix-in interface for property observables which can restrict the
+ * observation of detail values to a window of indices in the master list, e.g.
+ * the rows of a virtual table which are currently visible.
+ * <p>
+ * While a window is set, native listeners are only registered on (and detail
+ * values are only cached for) the master elements inside the window, extended
+ * on either side by the window margin. Elements outside the window remain
+ * accessible through the observable, but changes to their detail values are
+ * not reported until they are scrolled into the window.
+ * <p>
+ * The observables returned by
+ * {@link SimpleValueProperty#observeDetail(org.eclipse.core.databinding.observable.list.IObservableList)}
+ * implement this interface.
+ *
+ * @since 1.5
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface IWindowedObservable {
+	/**
+	 * Restricts observation to the master elements between the specified
+	 * indices, plus the window margin on either side. Indices beyond the end
+	 * of the master list are ignored.
+	 *
+	 * @param fromIndex
+	 *            the index of the first visible element (inclusive)
+	 * @param toIndex
+	 *            the index of the last visible element (exclusive)
+	 */
+	public void setWindow(int fromIndex, int toIndex);
+
+	/**
+	 * Removes any window previously set, so that every element of the master
+	 * list is observed.
+	 */
+	public void clearWindow();
+
+	/**
+	 * Sets the number of elements observed on either side of the window.
+	 *
+	 * @param margin
+	 *            the window margin, must not be negative
+	 */
+	public void setWindowMargin(int margin);
+
+	/**
+	 * Returns the number of elements observed on either side of the window.
+	 *
+	 * @return the number of elements observed on either side of the window
+	 */
+	public int getWindowMargin();
+}
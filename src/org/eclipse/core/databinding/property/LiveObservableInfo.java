@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import java.lang.ref.WeakReference;
+
+import org.eclipse.core.databinding.observable.IObservable;
+
+/**
+ * A snapshot of the state of one live property observable tracked by the
+ * {@link PropertyObservableRegistry}. The snapshot refers to the observable
+ * weakly, so that retaining it does not keep the observable alive.
+ * 
+ * @since 1.5
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class LiveObservableInfo {
+	private final WeakReference<Object> observable;
+	private final IProperty property;
+	private final Class<?> sourceClass;
+	private final long creationTime;
+	private final long lastEventTime;
+	private final long idleMillis;
+	private final boolean hooked;
+	private final long cacheFootprint;
+	private final long coalescedChanges;
+	private final StackTraceElement[] creationTrace;
+
+	/**
+	 * @param observable
+	 * @param property
+	 * @param sourceClass
+	 * @param creationTime
+	 * @param lastEventTime
+	 * @param idleMillis
+	 * @param hooked
+	 * @param cacheFootprint
+	 * @param coalescedChanges
+	 * @param creationTrace
+	 * @noreference This constructor is not intended to be referenced by
+	 *              clients.
+	 */
+	public LiveObservableInfo(Object observable, IProperty property,
+			Class<?> sourceClass, long creationTime, long lastEventTime,
+			long idleMillis, boolean hooked, long cacheFootprint,
+			long coalescedChanges, StackTraceElement[] creationTrace) {
+		this.observable = new WeakReference<Object>(observable);
+		this.property = property;
+		this.sourceClass = sourceClass;
+		this.creationTime = creationTime;
+		this.lastEventTime = lastEventTime;
+		this.idleMillis = idleMillis;
+		this.hooked = hooked;
+		this.cacheFootprint = cacheFootprint;
+		this.coalescedChanges = coalescedChanges;
+		this.creationTrace = creationTrace;
+	}
+
+	/**
+	 * @return the observable, or <code>null</code> if it has been garbage
+	 *         collected since the snapshot was taken
+	 */
+	public IObservable getObservable() {
+		return (IObservable) observable.get();
+	}
+
+	/**
+	 * @return the property observed by the observable
+	 */
+	public IProperty getProperty() {
+		return property;
+	}
+
+	/**
+	 * @return the class of the source of the observable, or
+	 *         <code>null</code> if the source is null
+	 */
+	public Class<?> getSourceClass() {
+		return sourceClass;
+	}
+
+	/**
+	 * @return the time the observable was created, in milliseconds since the
+	 *         epoch
+	 */
+	public long getCreationTime() {
+		return creationTime;
+	}
+
+	/**
+	 * @return the time the observable last received an event from its
+	 *         source, or its creation time if it received none
+	 */
+	public long getLastEventTime() {
+		return lastEventTime;
+	}
+
+	/**
+	 * @return the time elapsed since the last event when the snapshot was
+	 *         taken, in milliseconds
+	 */
+	public long getIdleMillis() {
+		return idleMillis;
+	}
+
+	/**
+	 * @return whether the observable listened to its source when the
+	 *         snapshot was taken
+	 */
+	public boolean isHooked() {
+		return hooked;
+	}
+
+	/**
+	 * @return an estimate of the memory held by the caches of the observable,
+	 *         in bytes
+	 */
+	public long getCacheFootprint() {
+		return cacheFootprint;
+	}
+
+	/**
+	 * @return the number of change events delivered to the observable on
+	 *         other threads which were merged into an already pending change
+	 *         instead of being processed individually, whether or not
+	 *         {@link PropertyMetrics} are enabled
+	 */
+	public long getCoalescedChanges() {
+		return coalescedChanges;
+	}
+
+	/**
+	 * @return the stack at the creation of the observable, or
+	 *         <code>null</code> if it was not sampled
+	 */
+	public StackTraceElement[] getCreationTrace() {
+		return creationTrace == null ? null : creationTrace.clone();
+	}
+
+	public String toString() {
+		return property + " on " //$NON-NLS-1$
+				+ (sourceClass == null ? "null" : sourceClass.getName()) //$NON-NLS-1$
+				+ (hooked ? ", hooked" : "") //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", idle " + idleMillis + " ms" //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", cache ~" + cacheFootprint + " bytes" //$NON-NLS-1$ //$NON-NLS-2$
+				+ (coalescedChanges == 0 ? "" : ", " + coalescedChanges //$NON-NLS-1$ //$NON-NLS-2$
+						+ " changes coalesced"); //$NON-NLS-1$
+	}
+}
@@ -12,6 +12,8 @@
 package org.eclipse.core.databinding.property;
 
 import org.eclipse.core.databinding.observable.IDiff;
+import org.eclipse.core.internal.databinding.property.MetricsRecorder;
+import org.eclipse.core.internal.databinding.property.Tracer;
 
 /**
  * Abstract INativePropertyListener implementation
@@ -22,6 +24,7 @@ public abstract class NativePropertyListener<S, D extends IDiff> implements
 INativePropertyListener<S> {
 private final IProperty property;
 private final ISimplePropertyListener<D> listener;
+private final IDirectPropertyListener<D> directListener;
 
 	/**
 	 * Constructs a NativePropertyListener with the specified arguments
@@ -31,10 +34,13 @@ private final ISimplePropertyListener<D> listener;
 	 * @param listener
 	 *            the listener to receive property change notifications
 	 */
+	@SuppressWarnings("unchecked")
 	public NativePropertyListener(IProperty property,
 			ISimplePropertyListener<D> listener) {
 		this.property = property;
 		this.listener = listener;
+		this.directListener = listener instanceof IDirectPropertyListener ? (IDirectPropertyListener<D>) listener
+				: null;
 	}
 
 	public final void addTo(S source) {
@@ -61,8 +67,15 @@ private final ISimplePropertyListener<D> listener;
 	 *            a diff describing the change in state
 	 */
 	protected void fireChange(Object source, D diff) {
-		listener.handleEvent(new SimplePropertyEvent<D>(
-				SimplePropertyEvent.CHANGE, source, property, diff));
+		if (MetricsRecorder.enabled)
+			MetricsRecorder.eventReceived(property);
+		long start = Tracer.start(PropertyTracing.NATIVE_EVENT);
+		if (directListener != null)
+			directListener.handleChange(source, diff);
+		else
+			listener.handleEvent(new SimplePropertyEvent<D>(
+					SimplePropertyEvent.CHANGE, source, property, diff));
+		Tracer.end(PropertyTracing.NATIVE_EVENT, property, source, -1, start);
 	}
 
 	/**
@@ -73,7 +86,14 @@ private final ISimplePropertyListener<D> listener;
 	 *            the source object whose property became stale
 	 */
 	protected void fireStale(Object source) {
-		listener.handleEvent(new SimplePropertyEvent<D>(
-				SimplePropertyEvent.STALE, source, property, null));
+		if (MetricsRecorder.enabled)
+			MetricsRecorder.eventReceived(property);
+		long start = Tracer.start(PropertyTracing.NATIVE_EVENT);
+		if (directListener != null)
+			directListener.handleStale(source);
+		else
+			listener.handleEvent(new SimplePropertyEvent<D>(
+					SimplePropertyEvent.STALE, source, property, null));
+		Tracer.end(PropertyTracing.NATIVE_EVENT, property, source, -1, start);
 	}
 }
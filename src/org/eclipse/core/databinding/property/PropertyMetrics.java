@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.core.internal.databinding.property.MetricsRecorder;
+import org.eclipse.core.internal.databinding.property.PropertyMetricsExporter;
+
+/**
+ * Contains static methods controlling the recording of per-property metrics,
+ * and reading the recorded {@link PropertyStatistics}.
+ * <p>
+ * Metrics are disabled by default. While disabled, recording costs a single
+ * volatile read per notification. While enabled, the native listeners and
+ * observables of simple properties record the events they receive and fire,
+ * the changes they suppress, the sizes of their diffs, the number of sources
+ * they listen to, and the delay between the receipt of an event and its
+ * processing in the realm.
+ * <p>
+ * The statistics can be read in memory, e.g. by tests, through
+ * {@link #getStatistics(IProperty)}, or exported as a JMX MBean through
+ * {@link #registerMBean(MBeanServer)}.
+ * 
+ * @since 1.5
+ */
+public class PropertyMetrics {
+	/**
+	 * The object name under which {@link #registerMBean(MBeanServer)}
+	 * registers the metrics MBean.
+	 */
+	public static final String OBJECT_NAME = "org.eclipse.core.databinding.property:type=PropertyMetrics"; //$NON-NLS-1$
+
+	/**
+	 * @return whether metrics are recorded
+	 */
+	public static boolean isEnabled() {
+		return MetricsRecorder.enabled;
+	}
+
+	/**
+	 * Enables or disables the recording of metrics. Disabling does not
+	 * discard the metrics recorded so far.
+	 * 
+	 * @param enabled
+	 */
+	public static void setEnabled(boolean enabled) {
+		MetricsRecorder.enabled = enabled;
+	}
+
+	/**
+	 * Returns a snapshot of the metrics recorded for the specified property.
+	 * 
+	 * @param property
+	 * @return the statistics of the property, or <code>null</code> if no
+	 *         metrics were recorded for it
+	 */
+	public static PropertyStatistics getStatistics(IProperty property) {
+		return MetricsRecorder.getStatistics(property);
+	}
+
+	/**
+	 * Returns a snapshot of the metrics recorded for all properties.
+	 * Properties which are no longer referenced are discarded together with
+	 * their metrics.
+	 * 
+	 * @return the statistics of all properties with recorded metrics
+	 */
+	public static List<PropertyStatistics> getStatistics() {
+		return MetricsRecorder.getStatistics();
+	}
+
+	/**
+	 * Discards all recorded metrics.
+	 */
+	public static void reset() {
+		MetricsRecorder.reset();
+	}
+
+	/**
+	 * Registers an MBean exposing the recorded metrics with the specified
+	 * server, under the name {@link #OBJECT_NAME}.
+	 * 
+	 * @param server
+	 *            the MBean server, e.g. the platform MBean server
+	 * @return the name of the registered MBean
+	 * @throws JMException
+	 *             if the MBean cannot be registered
+	 */
+	public static ObjectName registerMBean(MBeanServer server)
+			throws JMException {
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		return server.registerMBean(new PropertyMetricsExporter(), name)
+				.getObjectName();
+	}
+}
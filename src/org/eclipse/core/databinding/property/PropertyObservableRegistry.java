@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import java.io.PrintWriter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.internal.databinding.property.ObservableRegistry;
+
+/**
+ * Contains static methods controlling an opt-in registry of the live
+ * observables of simple properties, to diagnose leaked observables which
+ * keep native listeners attached to their sources and keep their caches
+ * alive.
+ * <p>
+ * The registry is disabled by default, and only tracks observables created
+ * while it is enabled. It refers to the observables weakly and does not
+ * refer to their sources at all, so it does not cause leaks itself.
+ * <p>
+ * A leaked observable typically remains reachable only through the native
+ * listener it attached to its source, and therefore listens to the source
+ * but is never accessed. {@link #findIdleObservables(long)} reports such
+ * suspects as the hooked observables which have not received an event for a
+ * given time.
+ * 
+ * @since 1.5
+ */
+public class PropertyObservableRegistry {
+	/**
+	 * @return whether newly created observables are registered
+	 */
+	public static boolean isEnabled() {
+		return ObservableRegistry.enabled;
+	}
+
+	/**
+	 * Enables or disables the registration of newly created observables.
+	 * Disabling does not discard the current registrations.
+	 * 
+	 * @param enabled
+	 */
+	public static void setEnabled(boolean enabled) {
+		ObservableRegistry.enabled = enabled;
+	}
+
+	/**
+	 * Sets the rate at which the stack of the creation of observables is
+	 * captured. Capturing a stack is expensive; a rate of 0, the default,
+	 * disables it.
+	 * 
+	 * @param rate
+	 *            capture the stack of every <code>rate</code>-th registered
+	 *            observable
+	 */
+	public static void setStackSampleRate(int rate) {
+		ObservableRegistry.setStackSampleRate(rate);
+	}
+
+	/**
+	 * @return information on all registered live observables
+	 */
+	public static List<LiveObservableInfo> getLiveObservables() {
+		return ObservableRegistry.getLiveObservables(0, false);
+	}
+
+	/**
+	 * Returns the registered observables which listen to their source but
+	 * have not received an event from it for at least the specified time.
+	 * 
+	 * @param idleMillis
+	 *            the minimum idle time, in milliseconds
+	 * @return information on the idle hooked observables
+	 */
+	public static List<LiveObservableInfo> findIdleObservables(long idleMillis) {
+		return ObservableRegistry.getLiveObservables(idleMillis, true);
+	}
+
+	/**
+	 * @return the number of registered live observables of each property
+	 */
+	public static Map<IProperty, Integer> countByProperty() {
+		Map<IProperty, Integer> counts = new HashMap<IProperty, Integer>();
+		for (Iterator<LiveObservableInfo> it = getLiveObservables().iterator(); it
+				.hasNext();) {
+			IProperty property = it.next().getProperty();
+			Integer count = counts.get(property);
+			counts.put(property, Integer.valueOf(count == null ? 1 : count
+					.intValue() + 1));
+		}
+		return counts;
+	}
+
+	/**
+	 * Writes a report of the registered live observables, grouped by
+	 * property, including the sampled creation stacks.
+	 * 
+	 * @param writer
+	 */
+	public static void dump(PrintWriter writer) {
+		List<LiveObservableInfo> infos = getLiveObservables();
+		Map<IProperty, Integer> counts = countByProperty();
+		long footprint = 0;
+		for (Iterator<LiveObservableInfo> it = infos.iterator(); it.hasNext();)
+			footprint += it.next().getCacheFootprint();
+
+		writer.println(infos.size() + " live property observables, cache ~" //$NON-NLS-1$
+				+ footprint + " bytes"); //$NON-NLS-1$
+		for (Iterator<Map.Entry<IProperty, Integer>> it = counts.entrySet()
+				.iterator(); it.hasNext();) {
+			Map.Entry<IProperty, Integer> entry = it.next();
+			writer.println("  " + entry.getValue() + "\t" + entry.getKey()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		for (Iterator<LiveObservableInfo> it = infos.iterator(); it.hasNext();) {
+			LiveObservableInfo info = it.next();
+			writer.println(info);
+			StackTraceElement[] trace = info.getCreationTrace();
+			if (trace != null) {
+				for (int i = 0; i < trace.length; i++)
+					writer.println("\tat " + trace[i]); //$NON-NLS-1$
+			}
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Discards all registrations.
+	 */
+	public static void clear() {
+		ObservableRegistry.clear();
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+/**
+ * A snapshot of the metrics recorded for the observables of one property
+ * while {@link PropertyMetrics} were enabled.
+ * <p>
+ * Histograms have 32 buckets of exponentially growing width: bucket
+ * <code>i</code> counts the values <code>v</code> with
+ * <code>2<sup>i-1</sup> &lt;= v &lt; 2<sup>i</sup></code>, bucket 0 counts
+ * zeros, and the last bucket also counts all larger values.
+ * 
+ * @since 1.5
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class PropertyStatistics {
+	private final IProperty property;
+	private final long eventsReceived;
+	private final long eventsFired;
+	private final long suppressedChanges;
+	private final long coalescedChanges;
+	private final long diffEntries;
+	private final long hookedSources;
+	private final long cacheHits;
+	private final long[] diffSizeHistogram;
+	private final long[] dispatchLatencyHistogram;
+
+	/**
+	 * @param property
+	 * @param eventsReceived
+	 * @param eventsFired
+	 * @param suppressedChanges
+	 * @param coalescedChanges
+	 * @param diffEntries
+	 * @param hookedSources
+	 * @param cacheHits
+	 * @param diffSizeHistogram
+	 * @param dispatchLatencyHistogram
+	 * @noreference This constructor is not intended to be referenced by
+	 *              clients.
+	 */
+	public PropertyStatistics(IProperty property, long eventsReceived,
+			long eventsFired, long suppressedChanges, long coalescedChanges,
+			long diffEntries, long hookedSources, long cacheHits,
+			long[] diffSizeHistogram, long[] dispatchLatencyHistogram) {
+		this.property = property;
+		this.eventsReceived = eventsReceived;
+		this.eventsFired = eventsFired;
+		this.suppressedChanges = suppressedChanges;
+		this.coalescedChanges = coalescedChanges;
+		this.diffEntries = diffEntries;
+		this.hookedSources = hookedSources;
+		this.cacheHits = cacheHits;
+		this.diffSizeHistogram = diffSizeHistogram;
+		this.dispatchLatencyHistogram = dispatchLatencyHistogram;
+	}
+
+	/**
+	 * @return the property
+	 */
+	public IProperty getProperty() {
+		return property;
+	}
+
+	/**
+	 * @return the number of change and stale events received by native
+	 *         listeners of the property
+	 */
+	public long getEventsReceived() {
+		return eventsReceived;
+	}
+
+	/**
+	 * @return the number of change events fired by observables of the
+	 *         property
+	 */
+	public long getEventsFired() {
+		return eventsFired;
+	}
+
+	/**
+	 * @return the number of received change events which did not change the
+	 *         observable and were not passed on
+	 */
+	public long getSuppressedChanges() {
+		return suppressedChanges;
+	}
+
+	/**
+	 * @return the number of change events delivered on other threads which
+	 *         were dropped because a change of the same observable was
+	 *         already pending in its realm
+	 */
+	public long getCoalescedChanges() {
+		return coalescedChanges;
+	}
+
+	/**
+	 * @return the total number of diff entries of the fired change events
+	 */
+	public long getDiffEntries() {
+		return diffEntries;
+	}
+
+	/**
+	 * @return the number of sources currently listened to by observables of
+	 *         the property
+	 */
+	public long getHookedSources() {
+		return hookedSources;
+	}
+
+	/**
+	 * @return the number of queries answered from a cache or index instead
+	 *         of the source
+	 */
+	public long getCacheHits() {
+		return cacheHits;
+	}
+
+	/**
+	 * @return the histogram of the number of diff entries of fired change
+	 *         events
+	 */
+	public long[] getDiffSizeHistogram() {
+		return diffSizeHistogram.clone();
+	}
+
+	/**
+	 * @return the histogram of the time, in microseconds, between the receipt
+	 *         of an event by a native listener and its processing in the
+	 *         realm of the observable
+	 */
+	public long[] getDispatchLatencyHistogram() {
+		return dispatchLatencyHistogram.clone();
+	}
+
+	public String toString() {
+		return property + ": received=" + eventsReceived //$NON-NLS-1$
+				+ ", fired=" + eventsFired //$NON-NLS-1$
+				+ ", suppressed=" + suppressedChanges //$NON-NLS-1$
+				+ ", coalesced=" + coalescedChanges //$NON-NLS-1$
+				+ ", diffEntries=" + diffEntries //$NON-NLS-1$
+				+ ", hookedSources=" + hookedSources //$NON-NLS-1$
+				+ ", cacheHits=" + cacheHits; //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property;
+
+import org.eclipse.core.internal.databinding.property.Tracer;
+
+/**
+ * Contains static methods controlling the tracing of the duration of
+ * property notification operations to an {@link IPropertyTraceListener}.
+ * <p>
+ * Each category of operation can be enabled individually. Tracing is
+ * disabled by default; while a category is disabled, its operations cost a
+ * single volatile read.
+ * 
+ * @since 1.5
+ */
+public class PropertyTracing {
+	/**
+	 * Category of the delivery of an event by a native property listener,
+	 * including the processing of the event when the listener is called in
+	 * the realm of the observable.
+	 */
+	public static final int NATIVE_EVENT = 1;
+
+	/**
+	 * Category of the delay between the receipt of an event by a native
+	 * property listener and its processing in the realm of the observable.
+	 */
+	public static final int REALM_DISPATCH = 1 << 1;
+
+	/**
+	 * Category of the comparison of the cached and the current state of an
+	 * observable, and the notification of its listeners.
+	 */
+	public static final int NOTIFY = 1 << 2;
+
+	/**
+	 * Category of the copying of the state of the source into the cache of an
+	 * observable.
+	 */
+	public static final int SNAPSHOT = 1 << 3;
+
+	/**
+	 * Category of the conversion of a diff of the master observable into a
+	 * diff of a detail observable.
+	 */
+	public static final int CONVERT_DIFF = 1 << 4;
+
+	/**
+	 * All categories.
+	 */
+	public static final int ALL = NATIVE_EVENT | REALM_DISPATCH | NOTIFY
+			| SNAPSHOT | CONVERT_DIFF;
+
+	/**
+	 * Sets the listener receiving the traced operations of the specified
+	 * categories, replacing any previous listener.
+	 * 
+	 * @param listener
+	 *            the listener, or <code>null</code> to disable tracing
+	 * @param categories
+	 *            the bitwise or of the categories to trace
+	 */
+	public static void setTraceListener(IPropertyTraceListener listener,
+			int categories) {
+		Tracer.setListener(listener, listener == null ? 0 : categories);
+	}
+
+	/**
+	 * @param category
+	 * @return whether operations of the category are traced
+	 */
+	public static boolean isTraced(int category) {
+		return (Tracer.categories & category) != 0;
+	}
+}
@@ -12,6 +12,7 @@
 
 package org.eclipse.core.databinding.property.list;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.core.databinding.observable.Realm;
@@ -19,7 +20,9 @@ import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.ListDiff;
 import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
 import org.eclipse.core.databinding.property.IProperty;
+import org.eclipse.core.databinding.property.ISplitIterator;
 import org.eclipse.core.databinding.property.value.IValueProperty;
 
 /**
@@ -56,6 +59,19 @@ public interface IListProperty<S, E> extends IProperty {
 	 */
 	public List<E> getList(S source);
 
+	/**
+	 * Returns a splittable iterator over the current contents of the source's
+	 * list property, so that the elements can be traversed in parallel. The
+	 * list is not copied if it supports fast random access.
+	 * 
+	 * @param source
+	 *            the property source (may be null)
+	 * @return a splittable iterator over the elements of the source's list
+	 *         property
+	 * @since 1.5
+	 */
+	public ISplitIterator<E> splitIterator(S source);
+
 	/**
 	 * Updates the property on the source with the specified change
 	 * <p>
@@ -148,6 +164,23 @@ public interface IListProperty<S, E> extends IProperty {
 	public <U extends S> IObservableList<E> observeDetail(
 			IObservableValue<U> master);
 
+	/**
+	 * Returns an observable list on the master observable's realm which
+	 * concatenates this property of each element of <code>master</code>, in
+	 * the order of the master list. While the returned list has listeners,
+	 * a change of this property on one master element is reported as a change
+	 * at the offset of that element's list, without copying or revisiting the
+	 * lists of the other master elements. The returned list is unmodifiable.
+	 * 
+	 * @param master
+	 *            the master observable
+	 * @return an observable list on the given realm which concatenates this
+	 *         property of the elements of <code>master</code>.
+	 * @since 1.5
+	 */
+	public <U extends S> IObservableList<E> observeDetail(
+			IObservableList<U> master);
+
 	/**
 	 * Returns the nested combination of this property and the specified detail
 	 * value property. Note that because this property is a projection of value
@@ -163,4 +196,86 @@ public interface IListProperty<S, E> extends IProperty {
 	 */
 	public <T> IListProperty<S, T> values(
 			IValueProperty<? super E, T> detailValue);
+
+	/**
+	 * Returns a list property containing the elements of this property,
+	 * sorted with the specified comparator. Observables of the returned
+	 * property apply each change of this property in logarithmic time and
+	 * report it as a minimal list diff. Elements which compare equal keep the
+	 * order in which they were added. The returned property is unmodifiable.
+	 * 
+	 * @param comparator
+	 *            the comparator, or <code>null</code> to sort the elements by
+	 *            their natural ordering
+	 * @return a sorted list property over the elements of this property
+	 * @since 1.5
+	 */
+	public IListProperty<S, E> sorted(Comparator<? super E> comparator);
+
+	/**
+	 * Returns a list property containing the elements of this property,
+	 * sorted by the value of the specified key property on each element.
+	 * Observables of the returned property observe the key of each element,
+	 * and move an element to its new position when its key changes. Elements
+	 * with equal keys keep the order in which they were added. The returned
+	 * property is unmodifiable.
+	 * 
+	 * @param keyProperty
+	 *            the property providing the sort key of each element
+	 * @param comparator
+	 *            the comparator for sort keys, or <code>null</code> to sort
+	 *            the keys by their natural ordering
+	 * @return a list property over the elements of this property, sorted by
+	 *         their keys
+	 * @since 1.5
+	 */
+	public <K> IListProperty<S, E> sorted(
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator);
+
+	/**
+	 * Returns a list property containing the elements of this property for which
+	 * the specified predicate property is {@link Boolean#TRUE}, in the order of this property. Observables
+	 * of the returned property observe the predicate on each element, and
+	 * report a flip of the predicate on one element as a single-entry diff,
+	 * without revisiting the other elements. The returned property is
+	 * unmodifiable.
+	 * 
+	 * @param predicate
+	 *            the property deciding whether an element is included
+	 * @return a filtered list property over the elements of this property
+	 * @since 1.5
+	 */
+	public IListProperty<S, E> filtered(IValueProperty<? super E, Boolean> predicate);
+
+	/**
+	 * Returns a read-only value property computing the specified aggregate
+	 * over the elements of this property, which must be {@link Number}s.
+	 * Observables of the returned property update the aggregate from the
+	 * diffs of this property instead of recomputing it.
+	 * 
+	 * @param aggregate
+	 *            the aggregate function
+	 * @return a value property aggregating the elements of this property
+	 * @since 1.5
+	 */
+	public IValueProperty<S, Number> aggregate(Aggregate aggregate);
+
+	/**
+	 * Returns a read-only value property computing the specified aggregate
+	 * over the detail value of each of the elements of this property.
+	 * Observables of the returned property update the aggregate from the
+	 * diffs of this property and from changes of the detail values, instead
+	 * of recomputing it.
+	 * 
+	 * @param aggregate
+	 *            the aggregate function
+	 * @param detailValue
+	 *            the detail property providing the value to aggregate
+	 * @return a value property aggregating the detail values of the
+	 *         elements of this property
+	 * @since 1.5
+	 */
+	public IValueProperty<S, Number> aggregate(Aggregate aggregate,
+			IValueProperty<? super E, ? extends Number> detailValue);
 }
@@ -15,6 +15,7 @@ package org.eclipse.core.databinding.property.list;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.core.databinding.observable.Diffs;
@@ -24,8 +25,16 @@ import org.eclipse.core.databinding.observable.list.ListDiff;
 import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
 import org.eclipse.core.databinding.observable.masterdetail.MasterDetailObservables;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
+import org.eclipse.core.databinding.property.IPropertyView;
+import org.eclipse.core.databinding.property.ISplitIterator;
 import org.eclipse.core.databinding.property.value.IValueProperty;
 import org.eclipse.core.internal.databinding.property.ListPropertyDetailValuesList;
+import org.eclipse.core.internal.databinding.property.ArraySplitIterator;
+import org.eclipse.core.internal.databinding.property.list.FilteredListProperty;
+import org.eclipse.core.internal.databinding.property.list.FlattenedObservableList;
+import org.eclipse.core.internal.databinding.property.list.SortedListProperty;
+import org.eclipse.core.internal.databinding.property.value.AggregateValueProperty;
 
 /**
  * Abstract implementation of IListProperty.
@@ -52,7 +61,17 @@ public abstract class ListProperty<S, E> implements IListProperty<S, E> {
 		if (source == null) {
 			return Collections.emptyList();
 		}
-		return Collections.unmodifiableList(doGetList(source));
+		List<E> list = doGetList(source);
+		if (list instanceof IPropertyView)
+			return list;
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final ISplitIterator<E> splitIterator(S source) {
+		return ArraySplitIterator.of(getList(source), null);
 	}
 
 	/**
@@ -150,8 +169,55 @@ public abstract class ListProperty<S, E> implements IListProperty<S, E> {
 				listFactory(master.getRealm()), getElementType());
 	}
 
+	/**
+	 * @since 1.5
+	 */
+	public <U extends S> IObservableList<E> observeDetail(
+			IObservableList<U> master) {
+		return new FlattenedObservableList<S, E>(master, this);
+	}
+
 	public final <T> IListProperty<S, T> values(
 			IValueProperty<? super E, T> detailValue) {
 		return new ListPropertyDetailValuesList<S, E, T>(this, detailValue);
 	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IListProperty<S, E> sorted(Comparator<? super E> comparator) {
+		return new SortedListProperty<S, E, E>(this, null, comparator);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final <K> IListProperty<S, E> sorted(
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator) {
+		return new SortedListProperty<S, E, K>(this, keyProperty, comparator);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IListProperty<S, E> filtered(
+			IValueProperty<? super E, Boolean> predicate) {
+		return new FilteredListProperty<S, E>(this, predicate);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IValueProperty<S, Number> aggregate(Aggregate aggregate) {
+		return new AggregateValueProperty<S, E>(this, null, aggregate);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IValueProperty<S, Number> aggregate(Aggregate aggregate,
+			IValueProperty<? super E, ? extends Number> detailValue) {
+		return new AggregateValueProperty<S, E>(this, detailValue, aggregate);
+	}
 }
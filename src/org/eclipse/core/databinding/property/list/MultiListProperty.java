@@ -23,6 +23,8 @@ import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
 import org.eclipse.core.databinding.observable.list.MultiList;
 import org.eclipse.core.internal.databinding.property.PropertyObservableUtil;
+import org.eclipse.core.internal.databinding.property.list.ConcatenatedList;
+import org.eclipse.core.internal.databinding.property.list.SegmentIndex;
 
 /**
  * A list property for observing multiple list properties in sequence in a
@@ -65,62 +67,78 @@ public class MultiListProperty<S, E> extends ListProperty<S, E> {
 	}
 
 	protected List<E> doGetList(S source) {
-		List<E> list = new ArrayList<E>();
+		List<List<E>> lists = new ArrayList<List<E>>(properties.length);
 		for (int i = 0; i < properties.length; i++)
-			list.addAll(properties[i].getList(source));
-		return list;
+			lists.add(properties[i].getList(source));
+		return new ConcatenatedList<E>(lists);
 	}
 
 	protected void doUpdateList(final S source, ListDiff<E> diff) {
+		// Fetch each sub-list once, then route each diff entry to its
+		// segment through an index of the segment offsets, and apply the
+		// entries of each segment as a single diff
+		int[] sizes = new int[properties.length];
+		for (int i = 0; i < properties.length; i++)
+			sizes[i] = properties[i].getList(source).size();
+		final SegmentIndex segments = new SegmentIndex(sizes);
+		final List<List<ListDiffEntry<E>>> entries = new ArrayList<List<ListDiffEntry<E>>>(
+				properties.length);
+		for (int i = 0; i < properties.length; i++)
+			entries.add(null);
+
 		diff.accept(new ListDiffVisitor<E>() {
 			public void handleAdd(int index, E element) {
-				throw new UnsupportedOperationException();
+				add(segments.getInsertionSegment(index), index, element);
+			}
+
+			public void handleRemove(int index, E element) {
+				remove(segments.getSegment(index), index, element);
 			}
 
 			public void handleMove(int oldIndex, int newIndex, E element) {
-				throw new UnsupportedOperationException();
+				int segment = segments.getSegment(oldIndex);
+				remove(segment, oldIndex, element);
+				int offset = segments.getOffset(segment);
+				if (newIndex < offset
+						|| newIndex > offset + segments.getSize(segment))
+					segment = segments.getInsertionSegment(newIndex);
+				add(segment, newIndex, element);
 			}
 
-			public void handleReplace(int index, E oldElement,
-					E newElement) {
-				int offset = 0;
-				for (int i = 0; i < properties.length; i++) {
-					List<E> subList = properties[i].getList(source);
-					if (index - offset < subList.size()) {
-						int subListIndex = index - offset;
-						ListDiffEntry<E>[] entries = ListDiffEntry.<E>newArray(2);
-						entries[0] = Diffs.createListDiffEntry(subListIndex, false,
-								oldElement);
-						entries[1] = Diffs.createListDiffEntry(subListIndex, true,
-								newElement);
-						ListDiff<E> diff = Diffs.createListDiff(entries);
-						properties[i].updateList(source, diff);
-						return;
-					}
-					offset += subList.size();
-				}
-				throw new IndexOutOfBoundsException("index: " + index //$NON-NLS-1$
-						+ ", size: " + offset); //$NON-NLS-1$
+			public void handleReplace(int index, E oldElement, E newElement) {
+				int segment = segments.getSegment(index);
+				remove(segment, index, oldElement);
+				add(segment, index, newElement);
 			}
 
-			public void handleRemove(int index, E element) {
-				int offset = 0;
-				for (int i = 0; i < properties.length; i++) {
-					List<E> subList = properties[i].getList(source);
-					int subListIndex = index - offset;
-					if (subListIndex < subList.size()) {
-						ListDiff<E> diff = Diffs.createListDiff(Diffs
-								.createListDiffEntry(subListIndex, false,
-										element));
-						properties[i].updateList(source, diff);
-						return;
-					}
-					offset += subList.size();
-				}
-				throw new IndexOutOfBoundsException("index: " + index //$NON-NLS-1$
-						+ ", size: " + offset); //$NON-NLS-1$
+			private void add(int segment, int index, E element) {
+				addEntry(segment, index, true, element);
+				segments.resize(segment, 1);
+			}
+
+			private void remove(int segment, int index, E element) {
+				addEntry(segment, index, false, element);
+				segments.resize(segment, -1);
+			}
+
+			private void addEntry(int segment, int index, boolean addition,
+					E element) {
+				List<ListDiffEntry<E>> segmentEntries = entries.get(segment);
+				if (segmentEntries == null)
+					entries.set(segment,
+							segmentEntries = new ArrayList<ListDiffEntry<E>>());
+				segmentEntries.add(Diffs.createListDiffEntry(index
+						- segments.getOffset(segment), addition, element));
 			}
 		});
+
+		for (int i = 0; i < properties.length; i++) {
+			List<ListDiffEntry<E>> segmentEntries = entries.get(i);
+			if (segmentEntries != null)
+				properties[i].updateList(source, Diffs
+						.createListDiff(segmentEntries.toArray(ListDiffEntry
+								.<E> newArray(segmentEntries.size()))));
+		}
 	}
 
 	public IObservableList<E> observe(Realm realm, S source) {
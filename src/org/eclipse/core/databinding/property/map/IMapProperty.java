@@ -19,7 +19,9 @@ import org.eclipse.core.databinding.observable.map.IObservableMap;
 import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
 import org.eclipse.core.databinding.property.IProperty;
+import org.eclipse.core.databinding.property.ISplitIterator;
 import org.eclipse.core.databinding.property.value.IValueProperty;
 
 /**
@@ -64,6 +66,19 @@ public interface IMapProperty<S, K, V> extends IProperty {
 	 */
 	public Map<K, V> getMap(S source);
 
+	/**
+	 * Returns a splittable iterator over the entries of the current contents
+	 * of the source's map property, so that the entries can be traversed in
+	 * parallel.
+	 * 
+	 * @param source
+	 *            the property source (may be null)
+	 * @return a splittable iterator over the entries of the source's map
+	 *         property
+	 * @since 1.5
+	 */
+	public ISplitIterator<Map.Entry<K, V>> splitIterator(S source);
+
 	/**
 	 * Updates the property on the source with the specified change.
 	 * <p>
@@ -176,4 +191,35 @@ public interface IMapProperty<S, K, V> extends IProperty {
 	 */
 	public <T> IMapProperty<S, K, T> values(
 			IValueProperty<? super V, T> detailValues);
+
+	/**
+	 * Returns a read-only value property computing the specified aggregate
+	 * over the values of this property, which must be {@link Number}s.
+	 * Observables of the returned property update the aggregate from the
+	 * diffs of this property instead of recomputing it.
+	 * 
+	 * @param aggregate
+	 *            the aggregate function
+	 * @return a value property aggregating the values of this property
+	 * @since 1.5
+	 */
+	public IValueProperty<S, Number> aggregate(Aggregate aggregate);
+
+	/**
+	 * Returns a read-only value property computing the specified aggregate
+	 * over the detail value of each of the values of this property.
+	 * Observables of the returned property update the aggregate from the
+	 * diffs of this property and from changes of the detail values, instead
+	 * of recomputing it.
+	 * 
+	 * @param aggregate
+	 *            the aggregate function
+	 * @param detailValue
+	 *            the detail property providing the value to aggregate
+	 * @return a value property aggregating the detail values of the
+	 *         values of this property
+	 * @since 1.5
+	 */
+	public IValueProperty<S, Number> aggregate(Aggregate aggregate,
+			IValueProperty<? super V, ? extends Number> detailValue);
 }
@@ -23,9 +23,14 @@ import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
 import org.eclipse.core.databinding.observable.masterdetail.MasterDetailObservables;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
+import org.eclipse.core.databinding.property.IPropertyView;
+import org.eclipse.core.databinding.property.ISplitIterator;
 import org.eclipse.core.databinding.property.value.IValueProperty;
 import org.eclipse.core.internal.databinding.identity.IdentityMap;
+import org.eclipse.core.internal.databinding.property.ArraySplitIterator;
 import org.eclipse.core.internal.databinding.property.MapPropertyDetailValuesMap;
+import org.eclipse.core.internal.databinding.property.value.AggregateValueProperty;
 
 /**
  * Abstract implementation of IMapProperty
@@ -52,7 +57,17 @@ public abstract class MapProperty<S, K, V> implements IMapProperty<S, K, V> {
 		if (source == null) {
 			return Collections.emptyMap();
 		}
-		return Collections.unmodifiableMap(doGetMap(source));
+		Map<K, V> map = doGetMap(source);
+		if (map instanceof IPropertyView)
+			return map;
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final ISplitIterator<Map.Entry<K, V>> splitIterator(S source) {
+		return ArraySplitIterator.of(getMap(source).entrySet(), null);
 	}
 
 	/**
@@ -156,4 +171,19 @@ public abstract class MapProperty<S, K, V> implements IMapProperty<S, K, V> {
 			IValueProperty<? super V, T> detailValues) {
 		return new MapPropertyDetailValuesMap<S, K, V, T>(this, detailValues);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @since 1.5
+	 */
+	public final IValueProperty<S, Number> aggregate(Aggregate aggregate) {
+		return new AggregateValueProperty<S, V>(this, null, aggregate);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IValueProperty<S, Number> aggregate(Aggregate aggregate,
+			IValueProperty<? super V, ? extends Number> detailValue) {
+		return new AggregateValueProperty<S, V>(this, detailValue, aggregate);
+	}
+}
@@ -12,6 +12,7 @@
 
 package org.eclipse.core.databinding.property.set;
 
+import java.util.Comparator;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Realm;
@@ -20,7 +21,10 @@ import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.SetDiff;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
 import org.eclipse.core.databinding.property.IProperty;
+import org.eclipse.core.databinding.property.ISplitIterator;
+import org.eclipse.core.databinding.property.list.IListProperty;
 import org.eclipse.core.databinding.property.map.IMapProperty;
 import org.eclipse.core.databinding.property.value.IValueProperty;
 
@@ -58,6 +62,18 @@ public interface ISetProperty<S, E> extends IProperty {
 	 */
 	public Set<E> getSet(S source);
 
+	/**
+	 * Returns a splittable iterator over the current contents of the source's
+	 * set property, so that the elements can be traversed in parallel.
+	 * 
+	 * @param source
+	 *            the property source (may be null)
+	 * @return a splittable iterator over the elements of the source's set
+	 *         property
+	 * @since 1.5
+	 */
+	public ISplitIterator<E> splitIterator(S source);
+
 	/**
 	 * Updates the property on the source with the specified change.
 	 * <p>
@@ -169,4 +185,103 @@ public interface ISetProperty<S, E> extends IProperty {
 	 */
 	public <T> IMapProperty<S, E, T> values(
 			IValueProperty<? super E, T> detailValues);
+
+	/**
+	 * Returns a list property containing the elements of this property,
+	 * sorted with the specified comparator. Observables of the returned
+	 * property apply each change of this property in logarithmic time and
+	 * report it as a minimal list diff. Elements which compare equal keep the
+	 * order in which they were added. The returned property is unmodifiable.
+	 * 
+	 * @param comparator
+	 *            the comparator, or <code>null</code> to sort the elements by
+	 *            their natural ordering
+	 * @return a sorted list property over the elements of this property
+	 * @since 1.5
+	 */
+	public IListProperty<S, E> sorted(Comparator<? super E> comparator);
+
+	/**
+	 * Returns a list property containing the elements of this property,
+	 * sorted by the value of the specified key property on each element.
+	 * Observables of the returned property observe the key of each element,
+	 * and move an element to its new position when its key changes. Elements
+	 * with equal keys keep the order in which they were added. The returned
+	 * property is unmodifiable.
+	 * 
+	 * @param keyProperty
+	 *            the property providing the sort key of each element
+	 * @param comparator
+	 *            the comparator for sort keys, or <code>null</code> to sort
+	 *            the keys by their natural ordering
+	 * @return a list property over the elements of this property, sorted by
+	 *         their keys
+	 * @since 1.5
+	 */
+	public <K> IListProperty<S, E> sorted(
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator);
+
+	/**
+	 * Returns a set property containing the elements of this property for which
+	 * the specified predicate property is {@link Boolean#TRUE}. Observables
+	 * of the returned property observe the predicate on each element, and
+	 * report a flip of the predicate on one element as a single-entry diff,
+	 * without revisiting the other elements. The returned property is
+	 * unmodifiable.
+	 * 
+	 * @param predicate
+	 *            the property deciding whether an element is included
+	 * @return a filtered set property over the elements of this property
+	 * @since 1.5
+	 */
+	public ISetProperty<S, E> filtered(IValueProperty<? super E, Boolean> predicate);
+
+	/**
+	 * Returns a map property grouping the elements of this property by the
+	 * value of the specified key property, mapping each key to the set of
+	 * elements having that key. Observables of the returned property observe
+	 * the key of each element, move an element between two buckets when its
+	 * key changes, and report only the buckets which changed, without
+	 * regrouping the other elements. The returned property is unmodifiable.
+	 * 
+	 * @param keyProperty
+	 *            the property providing the key of each element
+	 * @return a map property from each key to the set of elements of this
+	 *         property having that key
+	 * @since 1.5
+	 */
+	public <K> IMapProperty<S, K, Set<E>> groupBy(
+			IValueProperty<? super E, K> keyProperty);
+
+	/**
+	 * Returns a read-only value property computing the specified aggregate
+	 * over the elements of this property, which must be {@link Number}s.
+	 * Observables of the returned property update the aggregate from the
+	 * diffs of this property instead of recomputing it.
+	 * 
+	 * @param aggregate
+	 *            the aggregate function
+	 * @return a value property aggregating the elements of this property
+	 * @since 1.5
+	 */
+	public IValueProperty<S, Number> aggregate(Aggregate aggregate);
+
+	/**
+	 * Returns a read-only value property computing the specified aggregate
+	 * over the detail value of each of the elements of this property.
+	 * Observables of the returned property update the aggregate from the
+	 * diffs of this property and from changes of the detail values, instead
+	 * of recomputing it.
+	 * 
+	 * @param aggregate
+	 *            the aggregate function
+	 * @param detailValue
+	 *            the detail property providing the value to aggregate
+	 * @return a value property aggregating the detail values of the
+	 *         elements of this property
+	 * @since 1.5
+	 */
+	public IValueProperty<S, Number> aggregate(Aggregate aggregate,
+			IValueProperty<? super E, ? extends Number> detailValue);
 }
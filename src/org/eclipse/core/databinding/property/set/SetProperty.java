@@ -14,6 +14,7 @@
 package org.eclipse.core.databinding.property.set;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Diffs;
@@ -23,10 +24,19 @@ import org.eclipse.core.databinding.observable.masterdetail.MasterDetailObservab
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.SetDiff;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
+import org.eclipse.core.databinding.property.IPropertyView;
+import org.eclipse.core.databinding.property.ISplitIterator;
+import org.eclipse.core.databinding.property.list.IListProperty;
 import org.eclipse.core.databinding.property.map.IMapProperty;
 import org.eclipse.core.databinding.property.value.IValueProperty;
 import org.eclipse.core.internal.databinding.identity.IdentitySet;
+import org.eclipse.core.internal.databinding.property.ArraySplitIterator;
 import org.eclipse.core.internal.databinding.property.SetPropertyDetailValuesMap;
+import org.eclipse.core.internal.databinding.property.list.SortedListProperty;
+import org.eclipse.core.internal.databinding.property.map.GroupByMapProperty;
+import org.eclipse.core.internal.databinding.property.set.FilteredSetProperty;
+import org.eclipse.core.internal.databinding.property.value.AggregateValueProperty;
 
 /**
  * Abstract implementation of ISetProperty
@@ -53,7 +63,17 @@ public abstract class SetProperty<S, E> implements ISetProperty<S, E> {
 		if (source == null) {
 			return Collections.emptySet();
 		}
-		return Collections.unmodifiableSet(doGetSet(source));
+		Set<E> set = doGetSet(source);
+		if (set instanceof IPropertyView)
+			return set;
+		return Collections.unmodifiableSet(set);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final ISplitIterator<E> splitIterator(S source) {
+		return ArraySplitIterator.of(getSet(source), null);
 	}
 
 	/**
@@ -155,4 +175,51 @@ public abstract class SetProperty<S, E> implements ISetProperty<S, E> {
 			IValueProperty<? super E, T> detailValues) {
 		return new SetPropertyDetailValuesMap<S, E, T>(this, detailValues);
 	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IListProperty<S, E> sorted(Comparator<? super E> comparator) {
+		return new SortedListProperty<S, E, E>(this, null, comparator);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final <K> IListProperty<S, E> sorted(
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator) {
+		return new SortedListProperty<S, E, K>(this, keyProperty, comparator);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final ISetProperty<S, E> filtered(
+			IValueProperty<? super E, Boolean> predicate) {
+		return new FilteredSetProperty<S, E>(this, predicate);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final <K> IMapProperty<S, K, Set<E>> groupBy(
+			IValueProperty<? super E, K> keyProperty) {
+		return new GroupByMapProperty<S, E, K>(this, keyProperty);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IValueProperty<S, Number> aggregate(Aggregate aggregate) {
+		return new AggregateValueProperty<S, E>(this, null, aggregate);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IValueProperty<S, Number> aggregate(Aggregate aggregate,
+			IValueProperty<? super E, ? extends Number> detailValue) {
+		return new AggregateValueProperty<S, E>(this, detailValue, aggregate);
+	}
 }
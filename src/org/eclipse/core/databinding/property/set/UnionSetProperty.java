@@ -11,15 +11,16 @@
 
 package org.eclipse.core.databinding.property.set;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.ObservableArrayHelper;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.SetDiff;
-import org.eclipse.core.databinding.observable.set.UnionSet;
 import org.eclipse.core.internal.databinding.property.PropertyObservableUtil;
+import org.eclipse.core.internal.databinding.property.set.UnionObservableSet;
 
 /**
  * A set property for observing the union of multiple set properties a combined
@@ -52,10 +53,10 @@ public class UnionSetProperty<S, E> extends SetProperty<S, E> {
 	}
 
 	protected Set<E> doGetSet(S source) {
-		Set<E> set = new HashSet<E>();
+		List<Set<E>> sets = new ArrayList<Set<E>>(properties.length);
 		for (int i = 0; i < properties.length; i++)
-			set.addAll(properties[i].getSet(source));
-		return set;
+			sets.add(properties[i].getSet(source));
+		return UnionObservableSet.union(sets);
 	}
 
 	protected void doSetSet(S source, Set<E> set) {
@@ -73,7 +74,8 @@ public class UnionSetProperty<S, E> extends SetProperty<S, E> {
 				.newIObservableSetArray(properties.length);
 		for (int i = 0; i < sets.length; i++)
 			sets[i] = properties[i].observe(realm, source);
-		IObservableSet<E> unionSet = new UnionSet<E>(sets, elementType);
+		IObservableSet<E> unionSet = new UnionObservableSet<E>(realm, sets,
+				elementType);
 
 		for (int i = 0; i < sets.length; i++)
 			PropertyObservableUtil.cascadeDispose(unionSet, sets[i]);
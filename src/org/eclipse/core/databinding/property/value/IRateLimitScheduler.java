@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+/**
+ * Source of time and timed execution used by rate limited observables. The
+ * default scheduler uses the system clock and
+ * {@link org.eclipse.core.databinding.observable.Realm#timerExec(int, Runnable)}
+ * ; tests may supply a scheduler operating on virtual time.
+ *
+ * @since 1.5
+ * @see RateLimit#withScheduler(IRateLimitScheduler)
+ */
+public interface IRateLimitScheduler {
+	/**
+	 * Returns the current time in milliseconds. The value is only compared
+	 * with other values returned by this method, so it need not be related
+	 * to the wall clock time.
+	 *
+	 * @return the current time in milliseconds
+	 */
+	public long currentTimeMillis();
+
+	/**
+	 * Runs the specified runnable once the specified delay has elapsed. The
+	 * runnable may be run on any thread; rate limited observables forward the
+	 * execution to their realm.
+	 *
+	 * @param delayMillis
+	 *            the delay in milliseconds
+	 * @param runnable
+	 *            the runnable to run
+	 */
+	public void schedule(long delayMillis, Runnable runnable);
+}
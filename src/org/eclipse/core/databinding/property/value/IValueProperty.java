@@ -222,4 +222,18 @@ public interface IValueProperty<S, T> extends IProperty {
 	 */
 	public <K, V> IMapProperty<S, K, V> map(
 			IMapProperty<? super T, K, V> detailMap);
+
+	/**
+	 * Returns a property whose observables coalesce the value change events of
+	 * the observables of this property according to the specified rate limit.
+	 * Values read and written through the returned property are delegated to
+	 * this property. The returned property's observables implement
+	 * {@link org.eclipse.core.databinding.property.IRateLimitedObservable}.
+	 * 
+	 * @param rateLimit
+	 *            the rate limit to apply
+	 * @return a rate limited view of this property
+	 * @since 1.5
+	 */
+	public IValueProperty<S, T> rateLimited(RateLimit rateLimit);
 }
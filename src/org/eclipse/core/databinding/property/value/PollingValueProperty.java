@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import java.util.Map;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.IEquivalence;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.NativePropertyListener;
+import org.eclipse.core.internal.databinding.identity.IdentityMap;
+import org.eclipse.core.internal.databinding.property.value.PollingScheduler;
+
+/**
+ * A value property which detects changes to the value of another property by
+ * periodically sampling it. This property may be used to observe sources
+ * which offer no change notification for the delegate property.
+ * <p>
+ * All polling properties share a single background thread, which samples the
+ * sources observed through them in batches. The interval between samples of
+ * a source adapts to how often its value changes, between the minimum and
+ * maximum interval given to the constructor. A change event is fired only
+ * when a sample differs from the previous one.
+ * <p>
+ * <b>Note:</b> the delegate's {@link IValueProperty#getValue(Object)} is
+ * called on the polling thread, and must therefore be safe to call from that
+ * thread.
+ *
+ * @since 1.5
+ */
+public class PollingValueProperty<S, T> extends SimpleValueProperty<S, T> {
+	private final IValueProperty<S, T> delegate;
+	private final long minIntervalMillis;
+	private final long maxIntervalMillis;
+
+	/**
+	 * Constructs a PollingValueProperty sampling the delegate property at a
+	 * fixed interval.
+	 *
+	 * @param delegate
+	 *            the property to poll
+	 * @param intervalMillis
+	 *            the polling interval in milliseconds
+	 */
+	public PollingValueProperty(IValueProperty<S, T> delegate,
+			long intervalMillis) {
+		this(delegate, intervalMillis, intervalMillis);
+	}
+
+	/**
+	 * Constructs a PollingValueProperty sampling the delegate property at an
+	 * interval between the specified bounds.
+	 *
+	 * @param delegate
+	 *            the property to poll
+	 * @param minIntervalMillis
+	 *            the polling interval in milliseconds used while the value
+	 *            changes frequently
+	 * @param maxIntervalMillis
+	 *            the polling interval in milliseconds which is approached
+	 *            while the value does not change
+	 */
+	public PollingValueProperty(IValueProperty<S, T> delegate,
+			long minIntervalMillis, long maxIntervalMillis) {
+		if (minIntervalMillis <= 0 || maxIntervalMillis < minIntervalMillis)
+			throw new IllegalArgumentException("Invalid polling interval: [" //$NON-NLS-1$
+					+ minIntervalMillis + ", " + maxIntervalMillis + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+		this.delegate = delegate;
+		this.minIntervalMillis = minIntervalMillis;
+		this.maxIntervalMillis = maxIntervalMillis;
+	}
+
+	public Object getValueType() {
+		return delegate.getValueType();
+	}
+
+	protected T doGetValue(S source) {
+		return delegate.getValue(source);
+	}
+
+	protected void doSetValue(S source, T value) {
+		delegate.setValue(source, value);
+	}
+
+	public IEquivalence<? super T> getEquivalence() {
+		if (delegate instanceof ValueProperty)
+			return ((ValueProperty<S, T>) delegate).getEquivalence();
+		return super.getEquivalence();
+	}
+
+	public INativePropertyListener<S> adaptListener(
+			ISimplePropertyListener<ValueDiff<T>> listener) {
+		return new PollingListener(listener);
+	}
+
+	public String toString() {
+		return delegate + " (polled)"; //$NON-NLS-1$
+	}
+
+	private class PollingListener extends
+			NativePropertyListener<S, ValueDiff<T>> {
+		private final Map<S, PollingScheduler.Registration> registrations = new IdentityMap<S, PollingScheduler.Registration>();
+
+		PollingListener(ISimplePropertyListener<ValueDiff<T>> listener) {
+			super(PollingValueProperty.this, listener);
+		}
+
+		protected void doAddTo(final S source) {
+			synchronized (registrations) {
+				if (registrations.containsKey(source))
+					return;
+				final IEquivalence<? super T> equivalence = getEquivalence();
+				PollingScheduler.IPollTarget target = new PollingScheduler.IPollTarget() {
+					private T lastValue = delegate.getValue(source);
+					private ValueDiff<T> diff;
+
+					public boolean sample() {
+						T oldValue = lastValue;
+						T newValue = delegate.getValue(source);
+						if (equivalence.equivalent(oldValue, newValue))
+							return false;
+						lastValue = newValue;
+						diff = Diffs.createValueDiff(oldValue, newValue);
+						return true;
+					}
+
+					public void notifyChange() {
+						ValueDiff<T> change = diff;
+						diff = null;
+						if (change != null)
+							fireChange(source, change);
+					}
+
+					public String toString() {
+						return PollingValueProperty.this + " on " + source; //$NON-NLS-1$
+					}
+				};
+				registrations.put(source, PollingScheduler.getDefault()
+						.register(target, minIntervalMillis,
+								maxIntervalMillis));
+			}
+		}
+
+		protected void doRemoveFrom(S source) {
+			synchronized (registrations) {
+				PollingScheduler.Registration registration = registrations
+						.remove(source);
+				if (registration != null)
+					registration.cancel();
+			}
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+/**
+ * Describes how value change events of a rate limited property are
+ * coalesced. Instances are immutable and are created with one of the static
+ * factory methods.
+ * <ul>
+ * <li>{@link #throttle(long)} delivers a change immediately if no change was
+ * delivered within the interval, otherwise delivers the latest value at the
+ * end of the interval.</li>
+ * <li>{@link #debounce(long)} delivers the latest value once no change has
+ * occurred for the delay.</li>
+ * <li>{@link #sample(long)} delivers the latest value at the end of each
+ * period in which the value changed.</li>
+ * </ul>
+ * Intermediate changes which are superseded before delivery are dropped.
+ *
+ * @since 1.5
+ * @see IValueProperty#rateLimited(RateLimit)
+ */
+public final class RateLimit {
+	/**
+	 * Mode constant denoting throttling.
+	 */
+	public static final int THROTTLE = 0;
+
+	/**
+	 * Mode constant denoting debouncing.
+	 */
+	public static final int DEBOUNCE = 1;
+
+	/**
+	 * Mode constant denoting sampling.
+	 */
+	public static final int SAMPLE = 2;
+
+	private final int mode;
+	private final long intervalMillis;
+	private final IRateLimitScheduler scheduler;
+
+	private RateLimit(int mode, long intervalMillis,
+			IRateLimitScheduler scheduler) {
+		if (intervalMillis <= 0)
+			throw new IllegalArgumentException("Invalid interval: " //$NON-NLS-1$
+					+ intervalMillis);
+		this.mode = mode;
+		this.intervalMillis = intervalMillis;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns a rate limit delivering at most one change per interval, the
+	 * latest one.
+	 *
+	 * @param intervalMillis
+	 *            the minimum time between two deliveries in milliseconds
+	 * @return a throttling rate limit
+	 */
+	public static RateLimit throttle(long intervalMillis) {
+		return new RateLimit(THROTTLE, intervalMillis, null);
+	}
+
+	/**
+	 * Returns a rate limit delivering the latest change once the value has
+	 * been quiet for the delay.
+	 *
+	 * @param delayMillis
+	 *            the quiet time required before delivery in milliseconds
+	 * @return a debouncing rate limit
+	 */
+	public static RateLimit debounce(long delayMillis) {
+		return new RateLimit(DEBOUNCE, delayMillis, null);
+	}
+
+	/**
+	 * Returns a rate limit delivering the latest change at the end of each
+	 * period in which the value changed.
+	 *
+	 * @param periodMillis
+	 *            the sampling period in milliseconds
+	 * @return a sampling rate limit
+	 */
+	public static RateLimit sample(long periodMillis) {
+		return new RateLimit(SAMPLE, periodMillis, null);
+	}
+
+	/**
+	 * Returns a copy of this rate limit which uses the specified scheduler
+	 * instead of the default one.
+	 *
+	 * @param scheduler
+	 *            the scheduler, or <code>null</code> to use the default
+	 *            scheduler
+	 * @return a copy of this rate limit using the specified scheduler
+	 */
+	public RateLimit withScheduler(IRateLimitScheduler scheduler) {
+		return new RateLimit(mode, intervalMillis, scheduler);
+	}
+
+	/**
+	 * Returns the mode of this rate limit, one of {@link #THROTTLE},
+	 * {@link #DEBOUNCE} and {@link #SAMPLE}.
+	 *
+	 * @return the mode of this rate limit
+	 */
+	public int getMode() {
+		return mode;
+	}
+
+	/**
+	 * Returns the interval, delay or period of this rate limit, depending on
+	 * its mode.
+	 *
+	 * @return the interval of this rate limit in milliseconds
+	 */
+	public long getIntervalMillis() {
+		return intervalMillis;
+	}
+
+	/**
+	 * Returns the scheduler of this rate limit.
+	 *
+	 * @return the scheduler, or <code>null</code> if the default scheduler
+	 *         is used
+	 */
+	public IRateLimitScheduler getScheduler() {
+		return scheduler;
+	}
+
+	public String toString() {
+		String name;
+		switch (mode) {
+		case THROTTLE:
+			name = "throttle"; //$NON-NLS-1$
+			break;
+		case DEBOUNCE:
+			name = "debounce"; //$NON-NLS-1$
+			break;
+		default:
+			name = "sample"; //$NON-NLS-1$
+		}
+		return name + " " + intervalMillis + "ms"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -12,6 +12,8 @@
 
 package org.eclipse.core.databinding.property.value;
 
+import java.util.concurrent.Executor;
+
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.map.IObservableMap;
@@ -23,6 +25,7 @@ import org.eclipse.core.databinding.property.ISimplePropertyListener;
 import org.eclipse.core.internal.databinding.property.value.ListSimpleValueObservableList;
 import org.eclipse.core.internal.databinding.property.value.MapSimpleValueObservableMap;
 import org.eclipse.core.internal.databinding.property.value.SetSimpleValueObservableMap;
+import org.eclipse.core.internal.databinding.property.value.ShardedSetSimpleValueObservableMap;
 import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableValue;
 
 /**
@@ -81,6 +84,39 @@ public abstract class SimpleValueProperty<S, T> extends ValueProperty<S, T> {
 		return new SetSimpleValueObservableMap<S, U, T>(master, this);
 	}
 
+	/**
+	 * Returns an observable map on the master set's realm which tracks this
+	 * property on each element of the master set, like
+	 * {@link #observeDetail(IObservableSet)}, for very large master sets.
+	 * <p>
+	 * The master elements are partitioned by identity hash into the given
+	 * number of shards. Each shard caches the values of its elements and
+	 * listens to them, and hooks and unhooks its elements on the executor, so
+	 * that the shards are populated in parallel. Changes reported by the
+	 * shards are merged into a single map change event in the realm. The
+	 * property's getter and native listener must therefore be safe to use
+	 * from the executor's threads.
+	 * 
+	 * @param master
+	 *            the master observable set
+	 * @param executor
+	 *            the executor on which the shards hook and unhook their
+	 *            elements
+	 * @param shardCount
+	 *            the number of shards, at least 1
+	 * @return an observable map that tracks this property on each element of
+	 *         the master set
+	 * @since 1.5
+	 */
+	public <U extends S> IObservableMap<U, T> observeDetail(
+			IObservableSet<U> master, Executor executor, int shardCount) {
+		if (shardCount < 1)
+			throw new IllegalArgumentException("Invalid shard count: " //$NON-NLS-1$
+					+ shardCount);
+		return new ShardedSetSimpleValueObservableMap<S, U, T>(master, this,
+				executor, shardCount);
+	}
+
 	public <K, V extends S> IObservableMap<K, T> observeDetail(
 			IObservableMap<K, V> master) {
 		return new MapSimpleValueObservableMap<S, K, V, T>(master, this);
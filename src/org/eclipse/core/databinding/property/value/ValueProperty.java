@@ -20,6 +20,8 @@ import org.eclipse.core.databinding.observable.masterdetail.IObservableFactory;
 import org.eclipse.core.databinding.observable.masterdetail.MasterDetailObservables;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Equivalences;
+import org.eclipse.core.databinding.property.IEquivalence;
 import org.eclipse.core.databinding.property.list.IListProperty;
 import org.eclipse.core.databinding.property.map.IMapProperty;
 import org.eclipse.core.databinding.property.set.ISetProperty;
@@ -27,6 +29,7 @@ import org.eclipse.core.internal.databinding.property.ValuePropertyDetailList;
 import org.eclipse.core.internal.databinding.property.ValuePropertyDetailMap;
 import org.eclipse.core.internal.databinding.property.ValuePropertyDetailSet;
 import org.eclipse.core.internal.databinding.property.ValuePropertyDetailValue;
+import org.eclipse.core.internal.databinding.property.value.RateLimitedValueProperty;
 
 /**
  * Abstract implementation of IValueProperty
@@ -102,6 +105,23 @@ public abstract class ValueProperty<S, T> implements IValueProperty<S, T> {
 		}
 	}
 
+	/**
+	 * Returns the strategy used by observables of this property to decide
+	 * whether a new property value is a change worth notifying listeners
+	 * about.
+	 * <p>
+	 * By default, this method returns {@link Equivalences#equality()}.
+	 * Clients may override this method e.g. to return
+	 * {@link Equivalences#identity()} for large immutable values, or
+	 * {@link Equivalences#tolerance(double)} for noisy floating point values.
+	 * 
+	 * @return the equivalence strategy for values of this property
+	 * @since 1.5
+	 */
+	public IEquivalence<? super T> getEquivalence() {
+		return Equivalences.equality();
+	}
+
 	public IObservableValue<T> observe(S source) {
 		return observe(Realm.getDefault(), source);
 	}
@@ -171,4 +191,11 @@ public abstract class ValueProperty<S, T> implements IValueProperty<S, T> {
 			IMapProperty<? super T, K, V> detailMap) {
 		return new ValuePropertyDetailMap<S, T, K, V>(this, detailMap);
 	}
+
+	/**
+	 * @since 1.5
+	 */
+	public final IValueProperty<S, T> rateLimited(RateLimit rateLimit) {
+		return new RateLimitedValueProperty<S, T>(this, rateLimit);
+	}
 }
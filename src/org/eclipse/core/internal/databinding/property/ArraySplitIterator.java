@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import org.eclipse.core.databinding.property.ISplitIterator;
+
+/**
+ * A splittable iterator over a range of a random access list, or of an array
+ * copy of another collection such as a set or a map entry set, which splits
+ * the range at its midpoint.
+ *
+ * @since 1.5
+ */
+public class ArraySplitIterator<E> implements ISplitIterator<E> {
+	/**
+	 * Checks whether the collection being traversed has been modified. One
+	 * guard is shared by an iterator and all the iterators split from it.
+	 */
+	public static abstract class Guard {
+		/**
+		 * @throws java.util.ConcurrentModificationException
+		 *             if the collection has been modified
+		 */
+		public abstract void check();
+	}
+
+	private final List<E> list;
+	private final Guard guard;
+	private int index;
+	private final int fence;
+
+	private ArraySplitIterator(List<E> list, int index, int fence, Guard guard) {
+		this.list = list;
+		this.index = index;
+		this.fence = fence;
+		this.guard = guard;
+	}
+
+	/**
+	 * Returns a splittable iterator over the specified list. A random access
+	 * list is traversed in place, other lists are copied into an array first.
+	 *
+	 * @param list
+	 * @param guard
+	 *            the guard checking for concurrent modification, or
+	 *            <code>null</code>
+	 * @return a splittable iterator over the list
+	 */
+	public static <E> ISplitIterator<E> of(List<E> list, Guard guard) {
+		if (!(list instanceof RandomAccess))
+			return of((Collection<E>) list, guard);
+		return new ArraySplitIterator<E>(list, 0, list.size(), guard);
+	}
+
+	/**
+	 * Returns a splittable iterator over a copy of the elements of the
+	 * specified collection in an array.
+	 *
+	 * @param collection
+	 * @param guard
+	 *            the guard checking for concurrent modification, or
+	 *            <code>null</code>
+	 * @return a splittable iterator over the collection
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> ISplitIterator<E> of(Collection<E> collection,
+			Guard guard) {
+		List<E> list = (List<E>) Arrays.asList(collection.toArray());
+		return new ArraySplitIterator<E>(list, 0, list.size(), guard);
+	}
+
+	public ISplitIterator<E> trySplit() {
+		int mid = (index + fence) >>> 1;
+		if (mid <= index)
+			return null;
+		ISplitIterator<E> prefix = new ArraySplitIterator<E>(list, index, mid,
+				guard);
+		index = mid;
+		return prefix;
+	}
+
+	public int getRemaining() {
+		return fence - index;
+	}
+
+	public boolean hasNext() {
+		return index < fence;
+	}
+
+	public E next() {
+		if (guard != null)
+			guard.check();
+		if (index >= fence)
+			throw new NoSuchElementException();
+		return list.get(index++);
+	}
+
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+}
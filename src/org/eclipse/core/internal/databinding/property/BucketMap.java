@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.internal.databinding.identity.IdentityMap;
+import org.eclipse.core.internal.databinding.identity.IdentitySet;
+
+/**
+ * A multimap assigning each element to the bucket of one key, which moves
+ * single elements between buckets in constant time.
+ * <p>
+ * While changes are tracked, the buckets changed since the last call to
+ * {@link #takeDiff()} are recorded, and the diff reports only those buckets.
+ * The new value of a changed bucket is the (unmodifiable) bucket itself, and
+ * its old value is a copy of the bucket with the recorded changes undone, so
+ * that only changed buckets are ever copied.
+ *
+ * @since 1.5
+ */
+public class BucketMap<K, E> {
+	/**
+	 * The set of elements with the same key.
+	 */
+	private static final class Bucket<E> extends AbstractSet<E> {
+		final Set<E> elements;
+
+		Bucket(Set<E> elements) {
+			this.elements = elements;
+		}
+
+		public int size() {
+			return elements.size();
+		}
+
+		public boolean contains(Object o) {
+			return elements.contains(o);
+		}
+
+		public Iterator<E> iterator() {
+			return Collections.unmodifiableSet(elements).iterator();
+		}
+	}
+
+	/**
+	 * The changes made to one bucket since the last diff.
+	 */
+	private static final class BucketChange<E> {
+		final Bucket<E> bucket;
+		final boolean existed;
+		final Set<E> added;
+		final Set<E> removed;
+
+		BucketChange(Bucket<E> bucket, Set<E> added, Set<E> removed) {
+			this.bucket = bucket;
+			this.existed = !bucket.isEmpty();
+			this.added = added;
+			this.removed = removed;
+		}
+
+		void add(E element) {
+			if (!removed.remove(element))
+				added.add(element);
+		}
+
+		void remove(E element) {
+			if (!added.remove(element))
+				removed.add(element);
+		}
+
+		boolean isEmpty() {
+			return added.isEmpty() && removed.isEmpty();
+		}
+	}
+
+	private final boolean identityKeys;
+	private final boolean identityElements;
+	private final Map<K, Bucket<E>> buckets;
+	private final Map<E, K> keys;
+	private Map<K, BucketChange<E>> pendingChanges;
+
+	/**
+	 * @param identityKeys
+	 *            whether keys are compared by identity rather than by
+	 *            equality
+	 * @param identityElements
+	 *            whether elements are compared by identity rather than by
+	 *            equality
+	 */
+	public BucketMap(boolean identityKeys, boolean identityElements) {
+		this.identityKeys = identityKeys;
+		this.identityElements = identityElements;
+		this.buckets = newKeyMap();
+		this.keys = identityElements ? new IdentityMap<E, K>()
+				: new HashMap<E, K>();
+	}
+
+	private <T> Map<K, T> newKeyMap() {
+		return identityKeys ? new IdentityMap<K, T>() : new HashMap<K, T>();
+	}
+
+	private Set<K> newKeySet() {
+		return identityKeys ? new IdentitySet<K>() : new HashSet<K>();
+	}
+
+	private Set<E> newSet() {
+		return identityElements ? new IdentitySet<E>() : new HashSet<E>();
+	}
+
+	private Set<E> oldElements(BucketChange<E> change) {
+		Set<E> result = newSet();
+		result.addAll(change.bucket.elements);
+		result.removeAll(change.added);
+		result.addAll(change.removed);
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * Sets whether changes are recorded for {@link #takeDiff()}. Disabling
+	 * tracking discards the changes recorded so far.
+	 *
+	 * @param tracking
+	 */
+	public void setTracking(boolean tracking) {
+		if (pendingChanges != null) {
+			for (Iterator<K> it = pendingChanges.keySet().iterator(); it
+					.hasNext();) {
+				K key = it.next();
+				Bucket<E> bucket = buckets.get(key);
+				if (bucket != null && bucket.isEmpty())
+					buckets.remove(key);
+			}
+		}
+		pendingChanges = tracking ? this.<BucketChange<E>> newKeyMap() : null;
+	}
+
+	/**
+	 * @param element
+	 * @return whether the element is in a bucket
+	 */
+	public boolean containsElement(Object element) {
+		return keys.containsKey(element);
+	}
+
+	/**
+	 * @param element
+	 * @return the key of the bucket of the element, or <code>null</code> if
+	 *         the element is in no bucket
+	 */
+	public K getKey(Object element) {
+		return keys.get(element);
+	}
+
+	/**
+	 * Puts the element in the bucket of the specified key, removing it from
+	 * its previous bucket.
+	 *
+	 * @param element
+	 * @param key
+	 */
+	public void put(E element, K key) {
+		if (keys.containsKey(element)) {
+			K oldKey = keys.get(element);
+			if (identityKeys ? oldKey == key : Util.equals(oldKey, key))
+				return;
+			removeFromBucket(oldKey, element);
+		}
+		keys.put(element, key);
+		addToBucket(key, element);
+	}
+
+	/**
+	 * Removes the element from its bucket.
+	 *
+	 * @param element
+	 */
+	public void remove(E element) {
+		if (keys.containsKey(element))
+			removeFromBucket(keys.remove(element), element);
+	}
+
+	/**
+	 * @param key
+	 * @return whether the bucket of the key is not empty
+	 */
+	public boolean containsKey(Object key) {
+		return buckets.containsKey(key);
+	}
+
+	/**
+	 * @param key
+	 * @return the unmodifiable bucket of the key, or <code>null</code> if it
+	 *         is empty
+	 */
+	public Set<E> get(Object key) {
+		return buckets.get(key);
+	}
+
+	/**
+	 * @return an unmodifiable view of the non-empty buckets by key
+	 */
+	public Map<K, Set<E>> asMap() {
+		return Collections.<K, Set<E>> unmodifiableMap(buckets);
+	}
+
+	private Bucket<E> bucket(K key) {
+		Bucket<E> bucket = buckets.get(key);
+		if (bucket == null)
+			buckets.put(key, bucket = new Bucket<E>(newSet()));
+		return bucket;
+	}
+
+	private void addToBucket(K key, E element) {
+		if (pendingChanges == null) {
+			bucket(key).elements.add(element);
+			return;
+		}
+		BucketChange<E> change = change(key);
+		if (change.bucket.elements.add(element))
+			change.add(element);
+	}
+
+	private void removeFromBucket(K key, E element) {
+		if (pendingChanges == null) {
+			Bucket<E> bucket = buckets.get(key);
+			if (bucket != null && bucket.elements.remove(element)
+					&& bucket.isEmpty())
+				buckets.remove(key);
+			return;
+		}
+		BucketChange<E> change = change(key);
+		if (change.bucket.elements.remove(element))
+			change.remove(element);
+	}
+
+	private BucketChange<E> change(K key) {
+		BucketChange<E> change = pendingChanges.get(key);
+		if (change == null)
+			pendingChanges.put(key, change = new BucketChange<E>(bucket(key),
+					newSet(), newSet()));
+		return change;
+	}
+
+	/**
+	 * Returns a diff of the buckets changed since the last call, and starts
+	 * recording anew. Empty buckets are discarded.
+	 *
+	 * @return a diff of the changed buckets, or <code>null</code> if no
+	 *         bucket changed or changes are not tracked
+	 */
+	public MapDiff<K, Set<E>> takeDiff() {
+		if (pendingChanges == null || pendingChanges.isEmpty())
+			return null;
+
+		Set<K> addedKeys = newKeySet();
+		Set<K> removedKeys = newKeySet();
+		Set<K> changedKeys = newKeySet();
+		Map<K, Set<E>> oldValues = newKeyMap();
+		Map<K, Set<E>> newValues = newKeyMap();
+		for (Iterator<Map.Entry<K, BucketChange<E>>> it = pendingChanges
+				.entrySet().iterator(); it.hasNext();) {
+			Map.Entry<K, BucketChange<E>> entry = it.next();
+			K key = entry.getKey();
+			BucketChange<E> change = entry.getValue();
+			boolean exists = !change.bucket.isEmpty();
+			if (!exists)
+				buckets.remove(key);
+			if (change.existed && !exists) {
+				removedKeys.add(key);
+				oldValues.put(key, oldElements(change));
+			} else if (!change.existed && exists) {
+				addedKeys.add(key);
+				newValues.put(key, change.bucket);
+			} else if (exists && !change.isEmpty()) {
+				changedKeys.add(key);
+				oldValues.put(key, oldElements(change));
+				newValues.put(key, change.bucket);
+			}
+		}
+		pendingChanges = newKeyMap();
+
+		if (addedKeys.isEmpty() && removedKeys.isEmpty()
+				&& changedKeys.isEmpty())
+			return null;
+		return Diffs.createMapDiff(addedKeys, removedKeys, changedKeys,
+				oldValues, newValues);
+	}
+}
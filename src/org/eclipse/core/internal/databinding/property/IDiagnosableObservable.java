@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+/**
+ * Implemented by property observables which report their state to the
+ * {@link ObservableRegistry}.
+ *
+ * @since 1.5
+ */
+public interface IDiagnosableObservable {
+	/**
+	 * Rough size of a reference in a list cache, in bytes.
+	 */
+	public static final int REFERENCE_BYTES = 8;
+
+	/**
+	 * Rough size of an entry in a hash set or map cache, in bytes.
+	 */
+	public static final int HASH_ENTRY_BYTES = 48;
+
+	/**
+	 * @return whether the observable currently listens to its source
+	 */
+	public boolean isHooked();
+
+	/**
+	 * @return an estimate of the memory held by the caches of the observable,
+	 *         in bytes
+	 */
+	public long estimateCacheFootprint();
+
+	/**
+	 * @return the number of change events delivered on other threads which
+	 *         were merged into an already pending change
+	 */
+	public long getCoalescedChangeCount();
+}
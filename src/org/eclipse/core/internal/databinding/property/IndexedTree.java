@@ -0,0 +1,467 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sequence of nodes kept in a randomized balanced binary tree (treap) whose
+ * nodes are augmented with the size of their subtree. Positional access,
+ * insertion and removal take O(log n) expected time, and so does computing the
+ * position of a node from its handle, since nodes link to their parents.
+ * <p>
+ * Each node also carries a non-negative weight, and subtrees are augmented
+ * with their total weight. This allows the tree to map between positions in
+ * the sequence of nodes and positions in a derived sequence in which each node
+ * occupies as many positions as its weight, e.g. a filtered list (weights 0
+ * and 1) or a concatenation of lists (weights are the list sizes).
+ * <p>
+ * Clients subclass {@link Node} to attach data such as sort keys to the
+ * nodes. Nodes may be inserted either at a position or according to a
+ * comparator; the tree does not check that the two are used consistently.
+ *
+ * @since 1.5
+ */
+public class IndexedTree<E> {
+	/**
+	 * A node of an indexed tree. A node may be contained in at most one tree
+	 * at a time.
+	 */
+	public static class Node<E> {
+		final E element;
+		int weight;
+		int priority;
+		int size = 1;
+		int total;
+		Node<E> left;
+		Node<E> right;
+		Node<E> parent;
+
+		/**
+		 * @param element
+		 */
+		public Node(E element) {
+			this(element, 1);
+		}
+
+		/**
+		 * @param element
+		 * @param weight
+		 */
+		public Node(E element, int weight) {
+			this.element = element;
+			this.weight = this.total = weight;
+		}
+
+		/**
+		 * @return the element of this node
+		 */
+		public E getElement() {
+			return element;
+		}
+
+		/**
+		 * @return the weight of this node
+		 */
+		public int getWeight() {
+			return weight;
+		}
+	}
+
+	private Node<E> root;
+	private int seed = 0x2545F491;
+
+	/**
+	 * @return the number of nodes in the tree
+	 */
+	public int size() {
+		return size(root);
+	}
+
+	/**
+	 * @return the sum of the weights of all nodes in the tree
+	 */
+	public int totalWeight() {
+		return total(root);
+	}
+
+	/**
+	 * @return whether the tree is empty
+	 */
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * Removes all nodes from the tree.
+	 */
+	public void clear() {
+		root = null;
+	}
+
+	/**
+	 * @param index
+	 * @return the node at the specified position
+	 */
+	public Node<E> getNode(int index) {
+		if (index < 0 || index >= size())
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ size());
+		Node<E> node = root;
+		while (true) {
+			int leftSize = size(node.left);
+			if (index < leftSize) {
+				node = node.left;
+			} else if (index == leftSize) {
+				return node;
+			} else {
+				index -= leftSize + 1;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * @param index
+	 * @return the element at the specified position
+	 */
+	public E get(int index) {
+		return getNode(index).element;
+	}
+
+	/**
+	 * @param node
+	 *            a node contained in this tree
+	 * @return the position of the node
+	 */
+	public int indexOf(Node<E> node) {
+		int index = size(node.left);
+		for (Node<E> n = node; n.parent != null; n = n.parent) {
+			if (n == n.parent.right)
+				index += size(n.parent.left) + 1;
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the node covering the specified weighted position, i.e. the
+	 * node for which <code>weightedIndexOf(node) <= index</code> and
+	 * <code>index < weightedIndexOf(node) + node.getWeight()</code>.
+	 *
+	 * @param index
+	 * @return the node covering the specified weighted position
+	 */
+	public Node<E> getNodeAtWeight(int index) {
+		if (index < 0 || index >= totalWeight())
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ totalWeight());
+		Node<E> node = root;
+		while (true) {
+			int leftTotal = total(node.left);
+			if (index < leftTotal) {
+				node = node.left;
+			} else if (index < leftTotal + node.weight) {
+				return node;
+			} else {
+				index -= leftTotal + node.weight;
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * @param node
+	 *            a node contained in this tree
+	 * @return the sum of the weights of the nodes preceding the node
+	 */
+	public int weightedIndexOf(Node<E> node) {
+		int index = total(node.left);
+		for (Node<E> n = node; n.parent != null; n = n.parent) {
+			if (n == n.parent.right)
+				index += total(n.parent.left) + n.parent.weight;
+		}
+		return index;
+	}
+
+	/**
+	 * Changes the weight of a node.
+	 *
+	 * @param node
+	 *            a node contained in this tree
+	 * @param weight
+	 *            the new weight
+	 */
+	public void setWeight(Node<E> node, int weight) {
+		int delta = weight - node.weight;
+		node.weight = weight;
+		for (Node<E> n = node; n != null; n = n.parent)
+			n.total += delta;
+	}
+
+	/**
+	 * Inserts the node so that it ends up at the specified position.
+	 *
+	 * @param index
+	 * @param node
+	 */
+	public void insert(int index, Node<E> node) {
+		if (index < 0 || index > size())
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ size());
+		reset(node);
+		if (root == null) {
+			root = node;
+			return;
+		}
+		Node<E> parent = root;
+		while (true) {
+			int leftSize = size(parent.left);
+			if (index <= leftSize) {
+				if (parent.left == null) {
+					parent.left = node;
+					break;
+				}
+				parent = parent.left;
+			} else {
+				index -= leftSize + 1;
+				if (parent.right == null) {
+					parent.right = node;
+					break;
+				}
+				parent = parent.right;
+			}
+		}
+		attach(node, parent);
+	}
+
+	/**
+	 * Inserts the node after all nodes which do not compare greater than it.
+	 * The tree must be sorted according to the comparator.
+	 *
+	 * @param node
+	 * @param comparator
+	 * @return the position at which the node was inserted
+	 */
+	public int insert(Node<E> node, Comparator<? super Node<E>> comparator) {
+		reset(node);
+		if (root == null) {
+			root = node;
+			return 0;
+		}
+		int index = 0;
+		Node<E> parent = root;
+		while (true) {
+			if (comparator.compare(node, parent) < 0) {
+				if (parent.left == null) {
+					parent.left = node;
+					break;
+				}
+				parent = parent.left;
+			} else {
+				index += size(parent.left) + 1;
+				if (parent.right == null) {
+					parent.right = node;
+					break;
+				}
+				parent = parent.right;
+			}
+		}
+		attach(node, parent);
+		return index;
+	}
+
+	/**
+	 * Replaces the contents of the tree with the specified nodes, in the given
+	 * order. Takes linear time.
+	 *
+	 * @param nodes
+	 */
+	public void build(List<? extends Node<E>> nodes) {
+		// Builds the treap as the Cartesian tree of the priorities, keeping
+		// the right spine of the tree built so far on a stack
+		List<Node<E>> spine = new ArrayList<Node<E>>();
+		for (int i = 0; i < nodes.size(); i++) {
+			Node<E> node = nodes.get(i);
+			reset(node);
+			Node<E> last = null;
+			while (!spine.isEmpty()
+					&& spine.get(spine.size() - 1).priority < node.priority) {
+				last = spine.remove(spine.size() - 1);
+				update(last);
+			}
+			node.left = last;
+			if (last != null)
+				last.parent = node;
+			if (!spine.isEmpty()) {
+				Node<E> top = spine.get(spine.size() - 1);
+				top.right = node;
+				node.parent = top;
+			}
+			spine.add(node);
+		}
+		for (int i = spine.size() - 1; i >= 0; i--)
+			update(spine.get(i));
+		root = spine.isEmpty() ? null : spine.get(0);
+	}
+
+	/**
+	 * Removes the node from the tree.
+	 *
+	 * @param node
+	 *            a node contained in this tree
+	 */
+	public void remove(Node<E> node) {
+		while (node.left != null || node.right != null) {
+			Node<E> child = node.right == null
+					|| (node.left != null && node.left.priority > node.right.priority) ? node.left
+					: node.right;
+			rotateUp(child);
+		}
+		Node<E> parent = node.parent;
+		if (parent == null)
+			root = null;
+		else if (parent.left == node)
+			parent.left = null;
+		else
+			parent.right = null;
+		for (Node<E> n = parent; n != null; n = n.parent) {
+			n.size--;
+			n.total -= node.weight;
+		}
+		node.parent = null;
+	}
+
+	/**
+	 * @return the first node, or <code>null</code> if the tree is empty
+	 */
+	public Node<E> first() {
+		Node<E> node = root;
+		if (node != null)
+			while (node.left != null)
+				node = node.left;
+		return node;
+	}
+
+	/**
+	 * @return the last node, or <code>null</code> if the tree is empty
+	 */
+	public Node<E> last() {
+		Node<E> node = root;
+		if (node != null)
+			while (node.right != null)
+				node = node.right;
+		return node;
+	}
+
+	/**
+	 * Returns a node which the comparator considers equal to the probe. The
+	 * tree must be sorted according to the comparator.
+	 *
+	 * @param probe
+	 *            a node, not contained in the tree, to compare with the nodes
+	 *            of the tree
+	 * @param comparator
+	 * @return a node equal to the probe, or <code>null</code> if there is
+	 *         none
+	 */
+	public Node<E> find(Node<E> probe, Comparator<? super Node<E>> comparator) {
+		Node<E> node = root;
+		while (node != null) {
+			int result = comparator.compare(probe, node);
+			if (result == 0)
+				return node;
+			node = result < 0 ? node.left : node.right;
+		}
+		return null;
+	}
+
+	/**
+	 * @param node
+	 *            a node contained in this tree
+	 * @return the node following the specified node, or <code>null</code> if
+	 *         it is the last node
+	 */
+	public static <E> Node<E> next(Node<E> node) {
+		if (node.right != null) {
+			node = node.right;
+			while (node.left != null)
+				node = node.left;
+			return node;
+		}
+		while (node.parent != null && node == node.parent.right)
+			node = node.parent;
+		return node.parent;
+	}
+
+	private void reset(Node<E> node) {
+		// xorshift is sufficient for balancing and avoids contention on a
+		// shared java.util.Random
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		node.priority = seed;
+		node.size = 1;
+		node.total = node.weight;
+		node.left = node.right = node.parent = null;
+	}
+
+	private void attach(Node<E> node, Node<E> parent) {
+		node.parent = parent;
+		for (Node<E> n = parent; n != null; n = n.parent) {
+			n.size++;
+			n.total += node.weight;
+		}
+		while (node.parent != null && node.priority > node.parent.priority)
+			rotateUp(node);
+	}
+
+	private void rotateUp(Node<E> node) {
+		Node<E> parent = node.parent;
+		Node<E> grandParent = parent.parent;
+		if (node == parent.left) {
+			parent.left = node.right;
+			if (node.right != null)
+				node.right.parent = parent;
+			node.right = parent;
+		} else {
+			parent.right = node.left;
+			if (node.left != null)
+				node.left.parent = parent;
+			node.left = parent;
+		}
+		parent.parent = node;
+		node.parent = grandParent;
+		if (grandParent == null)
+			root = node;
+		else if (grandParent.left == parent)
+			grandParent.left = node;
+		else
+			grandParent.right = node;
+		update(parent);
+		update(node);
+	}
+
+	private static void update(Node<?> node) {
+		node.size = 1 + size(node.left) + size(node.right);
+		node.total = node.weight + total(node.left) + total(node.right);
+	}
+
+	private static int size(Node<?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	private static int total(Node<?> node) {
+		return node == null ? 0 : node.total;
+	}
+}
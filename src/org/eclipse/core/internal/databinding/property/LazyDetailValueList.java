@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.eclipse.core.databinding.property.IPropertyView;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.identity.IdentityMap;
+
+/**
+ * An unmodifiable view of the detail value of each element of a master list,
+ * which resolves a detail value only when it is accessed.
+ * <p>
+ * The view does not copy the master list: its size and elements are those of
+ * the master list at the time of each access. If memoizing, the detail value
+ * of each master element (by identity) is resolved at most once for the
+ * lifetime of the view, wherever the element moves in the master list; later
+ * changes of the detail value of that element are not seen by the view.
+ *
+ * @since 1.5
+ */
+public class LazyDetailValueList<T, E> extends AbstractList<E> implements
+		RandomAccess, IPropertyView<List<E>> {
+	private final List<T> masterList;
+	private final IValueProperty<? super T, E> detailProperty;
+	private final Map<T, E> memo;
+
+	/**
+	 * @param masterList
+	 * @param detailProperty
+	 * @param memoize
+	 *            whether to remember the detail values once resolved
+	 */
+	public LazyDetailValueList(List<T> masterList,
+			IValueProperty<? super T, E> detailProperty, boolean memoize) {
+		this.masterList = masterList;
+		this.detailProperty = detailProperty;
+		this.memo = memoize ? new IdentityMap<T, E>() : null;
+	}
+
+	public int size() {
+		return masterList.size();
+	}
+
+	public E get(int index) {
+		T element = masterList.get(index);
+		if (memo == null)
+			return detailProperty.getValue(element);
+		E value = memo.get(element);
+		if (value == null && !memo.containsKey(element))
+			memo.put(element, value = detailProperty.getValue(element));
+		return value;
+	}
+
+	public List<E> snapshot() {
+		List<E> list = new ArrayList<E>(size());
+		for (Iterator<E> it = iterator(); it.hasNext();)
+			list.add(it.next());
+		return list;
+	}
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.databinding.property.IPropertyView;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.identity.IdentityMap;
+
+/**
+ * An unmodifiable view of a map from a set of master keys to a detail value
+ * of each key (or of the value each key is mapped to in a master map), which
+ * resolves a detail value only when it is accessed. If memoizing, each detail
+ * value is resolved at most once for the lifetime of the view.
+ *
+ * @since 1.5
+ */
+public abstract class LazyDetailValueMap<K, T> extends AbstractMap<K, T>
+		implements IPropertyView<Map<K, T>> {
+	private final Set<K> keys;
+	private final Map<K, T> memo;
+	private Set<Map.Entry<K, T>> entrySet;
+
+	/**
+	 * @param keys
+	 * @param memoize
+	 *            whether to remember the detail values once resolved
+	 */
+	protected LazyDetailValueMap(Set<K> keys, boolean memoize) {
+		this.keys = keys;
+		this.memo = memoize ? new IdentityMap<K, T>() : null;
+	}
+
+	/**
+	 * Returns a view of the detail value of each element of the master set.
+	 *
+	 * @param masterSet
+	 * @param detailProperty
+	 * @param memoize
+	 * @return a lazy map from each element to its detail value
+	 */
+	public static <K, T> LazyDetailValueMap<K, T> forSet(Set<K> masterSet,
+			final IValueProperty<? super K, T> detailProperty, boolean memoize) {
+		return new LazyDetailValueMap<K, T>(masterSet, memoize) {
+			protected T resolve(K key) {
+				return detailProperty.getValue(key);
+			}
+		};
+	}
+
+	/**
+	 * Returns a view of the detail value of each value of the master map.
+	 *
+	 * @param masterMap
+	 * @param detailProperty
+	 * @param memoize
+	 * @return a lazy map from each key to the detail value of its value
+	 */
+	public static <K, V, T> LazyDetailValueMap<K, T> forMap(
+			final Map<K, V> masterMap,
+			final IValueProperty<? super V, T> detailProperty, boolean memoize) {
+		return new LazyDetailValueMap<K, T>(masterMap.keySet(), memoize) {
+			protected T resolve(K key) {
+				return detailProperty.getValue(masterMap.get(key));
+			}
+		};
+	}
+
+	/**
+	 * @param key
+	 *            a key of this map
+	 * @return the detail value of the key
+	 */
+	protected abstract T resolve(K key);
+
+	private T getValue(K key) {
+		if (memo == null)
+			return resolve(key);
+		T value = memo.get(key);
+		if (value == null && !memo.containsKey(key)) {
+			value = resolve(key);
+			memo.put(key, value);
+		}
+		return value;
+	}
+
+	public int size() {
+		return keys.size();
+	}
+
+	public boolean containsKey(Object key) {
+		return keys.contains(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	public T get(Object key) {
+		return keys.contains(key) ? getValue((K) key) : null;
+	}
+
+	public Set<K> keySet() {
+		return keys;
+	}
+
+	public Set<Map.Entry<K, T>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Map.Entry<K, T>>() {
+				public int size() {
+					return keys.size();
+				}
+
+				public Iterator<Map.Entry<K, T>> iterator() {
+					final Iterator<K> it = keys.iterator();
+					return new Iterator<Map.Entry<K, T>>() {
+						public boolean hasNext() {
+							return it.hasNext();
+						}
+
+						public Map.Entry<K, T> next() {
+							return new Entry(it.next());
+						}
+
+						public void remove() {
+							throw new UnsupportedOperationException();
+						}
+					};
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	private class Entry implements Map.Entry<K, T> {
+		private final K key;
+
+		Entry(K key) {
+			this.key = key;
+		}
+
+		public K getKey() {
+			return key;
+		}
+
+		public T getValue() {
+			return LazyDetailValueMap.this.getValue(key);
+		}
+
+		public T setValue(T value) {
+			throw new UnsupportedOperationException();
+		}
+
+		public boolean equals(Object o) {
+			if (o == this)
+				return true;
+			if (!(o instanceof Map.Entry))
+				return false;
+			Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+			return Util.equals(key, that.getKey())
+					&& Util.equals(getValue(), that.getValue());
+		}
+
+		public int hashCode() {
+			Object value = getValue();
+			return (key == null ? 0 : key.hashCode())
+					^ (value == null ? 0 : value.hashCode());
+		}
+	}
+
+	public Map<K, T> snapshot() {
+		Map<K, T> map = new IdentityMap<K, T>();
+		for (Iterator<K> it = keys.iterator(); it.hasNext();) {
+			K key = it.next();
+			map.put(key, getValue(key));
+		}
+		return map;
+	}
+}
@@ -23,7 +23,6 @@ import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.property.map.IMapProperty;
 import org.eclipse.core.databinding.property.map.MapProperty;
 import org.eclipse.core.databinding.property.value.IValueProperty;
-import org.eclipse.core.internal.databinding.identity.IdentityMap;
 
 /**
  * @since 3.3
@@ -53,13 +52,8 @@ public MapPropertyDetailValuesMap(IMapProperty<S, K, V> masterProperty,
 	}
 
 	protected Map<K, T> doGetMap(S source) {
-		Map<K, V> masterMap = masterProperty.getMap(source);
-		Map<K, T> detailMap = new IdentityMap<K, T>();
-		for (Map.Entry<K, V> entry : masterMap.entrySet()) {
-			detailMap.put(entry.getKey(), detailProperty.getValue(entry
-					.getValue()));
-		}
-		return detailMap;
+		return LazyDetailValueMap.forMap(masterProperty.getMap(source),
+				detailProperty, true);
 	}
 
 	protected void doUpdateMap(S source, MapDiff<K, T> diff) {
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.core.databinding.property.IProperty;
+import org.eclipse.core.databinding.property.PropertyStatistics;
+
+/**
+ * Records per-property counters for {@link PropertyStatistics}. Call sites
+ * test {@link #enabled} before calling any of the recording methods, so that
+ * disabled metrics cost one volatile read.
+ *
+ * @since 1.5
+ */
+public class MetricsRecorder {
+	/**
+	 * Whether metrics are recorded. Call sites must test this flag before
+	 * calling the recording methods.
+	 */
+	public static volatile boolean enabled = false;
+
+	/**
+	 * The number of buckets of a histogram. Bucket <code>i</code> counts the
+	 * values whose highest set bit is bit <code>i - 1</code>, and bucket 0
+	 * counts zeros.
+	 */
+	public static final int BUCKETS = 32;
+
+	private static final class Counters {
+		final AtomicLong eventsReceived = new AtomicLong();
+		final AtomicLong eventsFired = new AtomicLong();
+		final AtomicLong suppressedChanges = new AtomicLong();
+		final AtomicLong coalescedChanges = new AtomicLong();
+		final AtomicLong diffEntries = new AtomicLong();
+		final AtomicLong hookedSources = new AtomicLong();
+		final AtomicLong cacheHits = new AtomicLong();
+		final AtomicLongArray diffSizes = new AtomicLongArray(BUCKETS);
+		final AtomicLongArray dispatchLatencies = new AtomicLongArray(BUCKETS);
+	}
+
+	/**
+	 * A key holding its property weakly, so that recording metrics does not
+	 * keep properties alive.
+	 */
+	private static final class PropertyKey extends WeakReference<IProperty> {
+		private final int hash;
+
+		PropertyKey(IProperty property, ReferenceQueue<IProperty> queue) {
+			super(property, queue);
+			this.hash = property.hashCode();
+		}
+
+		public int hashCode() {
+			return hash;
+		}
+
+		public boolean equals(Object obj) {
+			if (obj == this)
+				return true;
+			if (!(obj instanceof PropertyKey))
+				return false;
+			IProperty property = get();
+			return property != null
+					&& property.equals(((PropertyKey) obj).get());
+		}
+	}
+
+	/**
+	 * A strong key to look up the counters of a property without creating a
+	 * weak reference.
+	 */
+	private static final class LookupKey {
+		private final IProperty property;
+
+		LookupKey(IProperty property) {
+			this.property = property;
+		}
+
+		public int hashCode() {
+			return property.hashCode();
+		}
+
+		public boolean equals(Object obj) {
+			return obj instanceof PropertyKey
+					&& property.equals(((PropertyKey) obj).get());
+		}
+	}
+
+	private static final ConcurrentMap<Object, Counters> counters = new ConcurrentHashMap<Object, Counters>();
+	private static final ReferenceQueue<IProperty> collected = new ReferenceQueue<IProperty>();
+
+	private static Counters counters(IProperty property) {
+		Counters result = counters.get(new LookupKey(property));
+		if (result == null) {
+			expungeCollected();
+			Counters created = new Counters();
+			result = counters.putIfAbsent(new PropertyKey(property, collected),
+					created);
+			if (result == null)
+				result = created;
+		}
+		return result;
+	}
+
+	private static void expungeCollected() {
+		for (Reference<? extends IProperty> key; (key = collected.poll()) != null;)
+			counters.remove(key);
+	}
+
+	private static void record(AtomicLongArray histogram, long value) {
+		int bucket = 64 - Long.numberOfLeadingZeros(Math.max(value, 0));
+		histogram.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+	}
+
+	/**
+	 * @return the current time in nanoseconds if metrics are enabled,
+	 *         otherwise 0
+	 */
+	public static long now() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records that a native listener of the property received an event.
+	 *
+	 * @param property
+	 */
+	public static void eventReceived(IProperty property) {
+		counters(property).eventsReceived.incrementAndGet();
+	}
+
+	/**
+	 * Records that an event received at the specified time was dispatched to
+	 * an observable of the property in its realm.
+	 *
+	 * @param property
+	 * @param receivedNanos
+	 *            the value of {@link #now()} when the event was received
+	 */
+	public static void eventDispatched(IProperty property, long receivedNanos) {
+		if (receivedNanos != 0)
+			record(counters(property).dispatchLatencies,
+					(System.nanoTime() - receivedNanos) / 1000);
+	}
+
+	/**
+	 * Records that an observable of the property fired a change.
+	 *
+	 * @param property
+	 * @param diffSize
+	 *            the number of entries of the diff
+	 */
+	public static void changeFired(IProperty property, int diffSize) {
+		Counters c = counters(property);
+		c.eventsFired.incrementAndGet();
+		c.diffEntries.addAndGet(diffSize);
+		record(c.diffSizes, diffSize);
+	}
+
+	/**
+	 * Records that an observable of the property received an event which did
+	 * not change its value.
+	 *
+	 * @param property
+	 */
+	public static void changeSuppressed(IProperty property) {
+		counters(property).suppressedChanges.incrementAndGet();
+	}
+
+	/**
+	 * Records that a change event delivered on another thread was merged
+	 * into a pending change of an observable of the property.
+	 *
+	 * @param property
+	 */
+	public static void changeCoalesced(IProperty property) {
+		counters(property).coalescedChanges.incrementAndGet();
+	}
+
+	/**
+	 * Records that an observable of the property started listening to its
+	 * source. The observable must keep the returned token, and pass it to
+	 * {@link #sourceUnhooked(Object)} when it stops listening, whether or not
+	 * metrics are still enabled then, so that the number of hooked sources
+	 * stays balanced across {@link #reset()} and toggling of {@link #enabled}.
+	 *
+	 * @param property
+	 * @return the token to pass to {@link #sourceUnhooked(Object)}
+	 */
+	public static Object sourceHooked(IProperty property) {
+		Counters c = counters(property);
+		c.hookedSources.incrementAndGet();
+		return c;
+	}
+
+	/**
+	 * Records that an observable stopped listening to its source.
+	 *
+	 * @param token
+	 *            the token returned by {@link #sourceHooked(IProperty)} when
+	 *            the observable started listening
+	 */
+	public static void sourceUnhooked(Object token) {
+		((Counters) token).hookedSources.decrementAndGet();
+	}
+
+	/**
+	 * Records that an observable of the property answered a query from its
+	 * cache or index instead of the source.
+	 *
+	 * @param property
+	 */
+	public static void cacheHit(IProperty property) {
+		counters(property).cacheHits.incrementAndGet();
+	}
+
+	private static long[] toArray(AtomicLongArray histogram) {
+		long[] result = new long[histogram.length()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = histogram.get(i);
+		return result;
+	}
+
+	private static PropertyStatistics snapshot(IProperty property, Counters c) {
+		return new PropertyStatistics(property, c.eventsReceived.get(),
+				c.eventsFired.get(), c.suppressedChanges.get(),
+				c.coalescedChanges.get(), c.diffEntries.get(), c.hookedSources
+						.get(), c.cacheHits.get(),
+				toArray(c.diffSizes), toArray(c.dispatchLatencies));
+	}
+
+	/**
+	 * @param property
+	 * @return the statistics of the property, or <code>null</code> if none
+	 *         were recorded
+	 */
+	public static PropertyStatistics getStatistics(IProperty property) {
+		Counters c = counters.get(new LookupKey(property));
+		return c == null ? null : snapshot(property, c);
+	}
+
+	/**
+	 * @return the statistics of all properties with recorded metrics
+	 */
+	public static List<PropertyStatistics> getStatistics() {
+		List<PropertyStatistics> result = new ArrayList<PropertyStatistics>();
+		for (Iterator<Map.Entry<Object, Counters>> it = counters.entrySet()
+				.iterator(); it.hasNext();) {
+			Map.Entry<Object, Counters> entry = it.next();
+			IProperty property = ((PropertyKey) entry.getKey()).get();
+			if (property != null)
+				result.add(snapshot(property, entry.getValue()));
+		}
+		return result;
+	}
+
+	/**
+	 * Discards all recorded metrics.
+	 */
+	public static void reset() {
+		counters.clear();
+	}
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.databinding.property.IProperty;
+import org.eclipse.core.databinding.property.LiveObservableInfo;
+
+/**
+ * Tracks the live property observables while the registry is enabled. The
+ * registry only holds weak references to the observables, and no reference to
+ * their sources.
+ *
+ * @since 1.5
+ */
+public class ObservableRegistry {
+	/**
+	 * Whether newly created observables are registered.
+	 */
+	public static volatile boolean enabled = false;
+
+	private static volatile int stackSampleRate = 0;
+
+	private static final AtomicInteger creations = new AtomicInteger();
+
+	private static final ReferenceQueue<IDiagnosableObservable> queue = new ReferenceQueue<IDiagnosableObservable>();
+
+	private static final Set<Registration> registrations = new HashSet<Registration>();
+
+	/**
+	 * The registration of one observable.
+	 */
+	public static final class Registration extends
+			WeakReference<IDiagnosableObservable> {
+		final IProperty property;
+		final Class<?> sourceClass;
+		final long creationTime = System.currentTimeMillis();
+		final StackTraceElement[] creationTrace;
+		volatile long lastEventTime = creationTime;
+
+		Registration(IDiagnosableObservable observable, IProperty property,
+				Class<?> sourceClass, StackTraceElement[] creationTrace) {
+			super(observable, queue);
+			this.property = property;
+			this.sourceClass = sourceClass;
+			this.creationTrace = creationTrace;
+		}
+
+		/**
+		 * Records that the observable received an event.
+		 */
+		public void touch() {
+			lastEventTime = System.currentTimeMillis();
+		}
+
+		LiveObservableInfo toInfo(IDiagnosableObservable observable, long now) {
+			return new LiveObservableInfo(observable, property, sourceClass,
+					creationTime, lastEventTime, now - lastEventTime,
+					observable.isHooked(), observable.estimateCacheFootprint(),
+					observable.getCoalescedChangeCount(), creationTrace);
+		}
+	}
+
+	/**
+	 * Sets the rate at which the creation stack of observables is captured.
+	 *
+	 * @param rate
+	 *            capture the stack of every <code>rate</code>-th observable,
+	 *            or none if 0
+	 */
+	public static void setStackSampleRate(int rate) {
+		stackSampleRate = Math.max(rate, 0);
+	}
+
+	/**
+	 * Registers the observable if the registry is enabled.
+	 *
+	 * @param observable
+	 * @param property
+	 * @param source
+	 * @return the registration, or <code>null</code> if the registry is
+	 *         disabled
+	 */
+	public static Registration register(IDiagnosableObservable observable,
+			IProperty property, Object source) {
+		if (!enabled)
+			return null;
+		StackTraceElement[] trace = null;
+		int rate = stackSampleRate;
+		if (rate > 0 && creations.incrementAndGet() % rate == 0)
+			trace = new Throwable().getStackTrace();
+		Registration registration = new Registration(observable, property,
+				source == null ? null : source.getClass(), trace);
+		synchronized (registrations) {
+			expunge();
+			registrations.add(registration);
+		}
+		return registration;
+	}
+
+	/**
+	 * Removes the registration of a disposed observable.
+	 *
+	 * @param registration
+	 *            the registration, or <code>null</code>
+	 */
+	public static void unregister(Registration registration) {
+		if (registration == null)
+			return;
+		synchronized (registrations) {
+			registrations.remove(registration);
+			registration.clear();
+		}
+	}
+
+	private static void expunge() {
+		for (Object reference = queue.poll(); reference != null; reference = queue
+				.poll())
+			registrations.remove(reference);
+	}
+
+	/**
+	 * @param minIdleMillis
+	 *            the minimum time since the last event, in milliseconds
+	 * @param hookedOnly
+	 *            whether to return only observables listening to their
+	 *            source
+	 * @return information on the matching live observables
+	 */
+	public static List<LiveObservableInfo> getLiveObservables(
+			long minIdleMillis, boolean hookedOnly) {
+		long now = System.currentTimeMillis();
+		List<LiveObservableInfo> result = new ArrayList<LiveObservableInfo>();
+		synchronized (registrations) {
+			expunge();
+			for (Iterator<Registration> it = registrations.iterator(); it
+					.hasNext();) {
+				Registration registration = it.next();
+				IDiagnosableObservable observable = registration.get();
+				if (observable == null
+						|| now - registration.lastEventTime < minIdleMillis
+						|| (hookedOnly && !observable.isHooked()))
+					continue;
+				result.add(registration.toInfo(observable, now));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Discards all registrations.
+	 */
+	public static void clear() {
+		synchronized (registrations) {
+			registrations.clear();
+			expunge();
+		}
+	}
+}
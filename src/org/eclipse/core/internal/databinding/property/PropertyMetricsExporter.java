@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.core.databinding.property.PropertyStatistics;
+
+/**
+ * A standard MBean exposing the metrics recorded by {@link MetricsRecorder}.
+ *
+ * @since 1.5
+ */
+public class PropertyMetricsExporter implements PropertyMetricsExporterMBean {
+	public boolean isEnabled() {
+		return MetricsRecorder.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		MetricsRecorder.enabled = enabled;
+	}
+
+	public int getPropertyCount() {
+		return MetricsRecorder.getStatistics().size();
+	}
+
+	public long getEventsReceived() {
+		long total = 0;
+		for (Iterator<PropertyStatistics> it = MetricsRecorder.getStatistics()
+				.iterator(); it.hasNext();)
+			total += it.next().getEventsReceived();
+		return total;
+	}
+
+	public long getEventsFired() {
+		long total = 0;
+		for (Iterator<PropertyStatistics> it = MetricsRecorder.getStatistics()
+				.iterator(); it.hasNext();)
+			total += it.next().getEventsFired();
+		return total;
+	}
+
+	public long getSuppressedChanges() {
+		long total = 0;
+		for (Iterator<PropertyStatistics> it = MetricsRecorder.getStatistics()
+				.iterator(); it.hasNext();)
+			total += it.next().getSuppressedChanges();
+		return total;
+	}
+
+	public long getCoalescedChanges() {
+		long total = 0;
+		for (Iterator<PropertyStatistics> it = MetricsRecorder.getStatistics()
+				.iterator(); it.hasNext();)
+			total += it.next().getCoalescedChanges();
+		return total;
+	}
+
+	public long getHookedSources() {
+		long total = 0;
+		for (Iterator<PropertyStatistics> it = MetricsRecorder.getStatistics()
+				.iterator(); it.hasNext();)
+			total += it.next().getHookedSources();
+		return total;
+	}
+
+	public String[] getStatistics() {
+		List<PropertyStatistics> statistics = MetricsRecorder.getStatistics();
+		Collections.sort(statistics, new Comparator<PropertyStatistics>() {
+			public int compare(PropertyStatistics left,
+					PropertyStatistics right) {
+				long l = left.getEventsReceived();
+				long r = right.getEventsReceived();
+				return l < r ? 1 : l > r ? -1 : 0;
+			}
+		});
+		String[] result = new String[statistics.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = statistics.get(i).toString();
+		return result;
+	}
+
+	public void reset() {
+		MetricsRecorder.reset();
+	}
+}
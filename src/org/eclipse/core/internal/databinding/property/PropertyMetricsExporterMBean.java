@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+/**
+ * The management interface of {@link PropertyMetricsExporter}.
+ *
+ * @since 1.5
+ */
+public interface PropertyMetricsExporterMBean {
+	/**
+	 * @return whether metrics are recorded
+	 */
+	public boolean isEnabled();
+
+	/**
+	 * @param enabled
+	 */
+	public void setEnabled(boolean enabled);
+
+	/**
+	 * @return the number of properties with recorded metrics
+	 */
+	public int getPropertyCount();
+
+	/**
+	 * @return the total number of events received by native listeners
+	 */
+	public long getEventsReceived();
+
+	/**
+	 * @return the total number of change events fired by observables
+	 */
+	public long getEventsFired();
+
+	/**
+	 * @return the total number of suppressed changes
+	 */
+	public long getSuppressedChanges();
+
+	/**
+	 * @return the total number of coalesced changes
+	 */
+	public long getCoalescedChanges();
+
+	/**
+	 * @return the total number of sources listened to
+	 */
+	public long getHookedSources();
+
+	/**
+	 * @return a summary of the metrics of each property, ordered by the
+	 *         number of received events, highest first
+	 */
+	public String[] getStatistics();
+
+	/**
+	 * Discards all recorded metrics.
+	 */
+	public void reset();
+}
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.databinding.observable.IDiff;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.property.IDirectPropertyListener;
+import org.eclipse.core.databinding.property.IProperty;
+import org.eclipse.core.databinding.property.PropertyTracing;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+
+/**
+ * A property listener which processes the events of a native listener in the
+ * realm of an observable.
+ * <p>
+ * An event delivered on the realm thread is processed inline, without
+ * allocating an event or a runnable. Like {@link Realm#exec(Runnable)}, the
+ * processing of each event is guarded so that a runtime exception thrown by
+ * a listener of the observable is logged instead of propagating into the
+ * code which fired the native event, such as a bean setter. Unlike
+ * {@link Realm#exec(Runnable)}, inline processing does not go through realm
+ * subclasses overriding it. Events delivered on other threads are
+ * queued, and a single drain task is scheduled in the realm to process all
+ * the queued events, instead of one runnable per event.
+ * <p>
+ * The number of change events in the queue can be bounded. Once the bound is
+ * reached, further change events are not queued individually but coalesced
+ * into a single change with an unknown diff, so that the observable
+ * recomputes its state from the source once. Consecutive changes are merged
+ * into the coalesced change at the tail of the queue; an event queued behind
+ * it, such as a stale event, ends the merge, so that events are processed in
+ * the order they were received. With a bound of 0, every change delivered on
+ * another thread is coalesced, so that at most one change is pending between
+ * two other events and the latest state wins.
+ *
+ * @since 1.5
+ */
+public abstract class RealmDispatchingListener<D extends IDiff> implements
+		IDirectPropertyListener<D>, Runnable {
+	/**
+	 * Coalescing threshold under which change events are never coalesced.
+	 */
+	public static final int UNBOUNDED = -1;
+
+	/**
+	 * Coalescing threshold under which at most one change event is pending,
+	 * for observables which only depend on the latest state of the source.
+	 */
+	public static final int LATEST_WINS = 0;
+
+	/**
+	 * Default coalescing threshold for observables of collections.
+	 */
+	public static final int DEFAULT_THRESHOLD = 64;
+
+	/**
+	 * An event queued for processing in the realm.
+	 */
+	private static final class PendingEvent<D> {
+		final int type;
+		/** The source, replaced by merged changes while coalescing */
+		Object source;
+		final D diff;
+		final boolean coalesced;
+		final long received;
+		final long dispatched;
+
+		PendingEvent(int type, Object source, D diff, boolean coalesced,
+				long received, long dispatched) {
+			this.type = type;
+			this.source = source;
+			this.diff = diff;
+			this.coalesced = coalesced;
+			this.received = received;
+			this.dispatched = dispatched;
+		}
+	}
+
+	private final Realm realm;
+	private final IProperty property;
+	private final int coalesceThreshold;
+
+	/**
+	 * The events delivered on other threads, in order of receipt. Queueing and
+	 * polling are guarded by the queue, so that the coalesced change at the
+	 * tail and the number of queued changes stay consistent with it.
+	 */
+	private final Queue<PendingEvent<D>> queue = new ConcurrentLinkedQueue<PendingEvent<D>>();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	/** The number of queued changes which are not coalesced */
+	private int queuedChanges;
+
+	/** The coalesced change at the tail of the queue, if any */
+	private PendingEvent<D> coalescedTail;
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	/**
+	 * Constructs a listener which queues all events.
+	 *
+	 * @param realm
+	 *            the realm of the observable
+	 * @param property
+	 *            the property, for metrics and tracing
+	 */
+	public RealmDispatchingListener(Realm realm, IProperty property) {
+		this(realm, property, UNBOUNDED);
+	}
+
+	/**
+	 * @param realm
+	 *            the realm of the observable
+	 * @param property
+	 *            the property, for metrics and tracing
+	 * @param coalesceThreshold
+	 *            the number of change events queued before further changes
+	 *            are coalesced, or {@link #UNBOUNDED}. Coalescing must only
+	 *            be enabled if all events have the same source, and if a
+	 *            change with a <code>null</code> diff makes the observable
+	 *            recompute its state.
+	 */
+	public RealmDispatchingListener(Realm realm, IProperty property,
+			int coalesceThreshold) {
+		this.realm = realm;
+		this.property = property;
+		this.coalesceThreshold = coalesceThreshold;
+	}
+
+	/**
+	 * @return the number of change events delivered on other threads which
+	 *         were merged into an already pending coalesced change
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * @return whether events are currently accepted, e.g. false while the
+	 *         observable is disposed or updating its source
+	 */
+	protected abstract boolean isAccepting();
+
+	/**
+	 * Processes an event in the realm.
+	 *
+	 * @param type
+	 *            {@link SimplePropertyEvent#CHANGE} or
+	 *            {@link SimplePropertyEvent#STALE}
+	 * @param source
+	 *            the source object of the event
+	 * @param diff
+	 *            the diff of a change event, or <code>null</code>
+	 */
+	protected abstract void process(int type, Object source, D diff);
+
+	public void handleEvent(SimplePropertyEvent<D> event) {
+		dispatch(event.type, event.getSource(), event.diff);
+	}
+
+	public void handleChange(Object source, D diff) {
+		dispatch(SimplePropertyEvent.CHANGE, source, diff);
+	}
+
+	public void handleStale(Object source) {
+		dispatch(SimplePropertyEvent.STALE, source, null);
+	}
+
+	private void dispatch(int type, Object source, D diff) {
+		if (!isAccepting())
+			return;
+		long received = MetricsRecorder.now();
+		long dispatched = Tracer.start(PropertyTracing.REALM_DISPATCH);
+		if (realm.isCurrent()) {
+			// process older events from other threads first
+			if (!queue.isEmpty())
+				run();
+			process(type, source, diff, received, dispatched);
+			return;
+		}
+		boolean merged = false;
+		synchronized (queue) {
+			if (type == SimplePropertyEvent.CHANGE
+					&& coalesceThreshold != UNBOUNDED
+					&& queuedChanges >= coalesceThreshold) {
+				if (coalescedTail != null) {
+					coalescedTail.source = source;
+					merged = true;
+				} else {
+					coalescedTail = new PendingEvent<D>(type, source, null,
+							true, received, dispatched);
+					queue.add(coalescedTail);
+				}
+			} else {
+				if (type == SimplePropertyEvent.CHANGE)
+					queuedChanges++;
+				coalescedTail = null;
+				queue.add(new PendingEvent<D>(type, source, diff, false,
+						received, dispatched));
+			}
+		}
+		if (merged) {
+			droppedCount.incrementAndGet();
+			if (MetricsRecorder.enabled)
+				MetricsRecorder.changeCoalesced(property);
+		}
+		if (scheduled.compareAndSet(false, true))
+			realm.asyncExec(this);
+	}
+
+	private void process(int type, Object source, D diff, long received,
+			long dispatched) {
+		Tracer.end(PropertyTracing.REALM_DISPATCH, property, source, -1,
+				dispatched);
+		if (received != 0)
+			MetricsRecorder.eventDispatched(property, received);
+		try {
+			process(type, source, diff);
+		} catch (RuntimeException e) {
+			Util.log("Unhandled exception processing an event of " + property, e); //$NON-NLS-1$
+		} catch (LinkageError e) {
+			Util.log("Unhandled exception processing an event of " + property, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Drains the queued events. Called in the realm.
+	 */
+	public void run() {
+		scheduled.set(false);
+		for (;;) {
+			PendingEvent<D> event;
+			Object source;
+			synchronized (queue) {
+				event = queue.poll();
+				if (event == null)
+					return;
+				if (event == coalescedTail)
+					coalescedTail = null;
+				else if (event.type == SimplePropertyEvent.CHANGE
+						&& !event.coalesced)
+					queuedChanges--;
+				source = event.source;
+			}
+			process(event.type, source, event.diff, event.received,
+					event.dispatched);
+		}
+	}
+}
@@ -14,7 +14,6 @@ package org.eclipse.core.internal.databinding.property;
 
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
@@ -25,7 +24,6 @@ import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.property.map.MapProperty;
 import org.eclipse.core.databinding.property.set.ISetProperty;
 import org.eclipse.core.databinding.property.value.IValueProperty;
-import org.eclipse.core.internal.databinding.identity.IdentityMap;
 
 /**
  * @since 3.3
@@ -54,13 +52,8 @@ public class SetPropertyDetailValuesMap<S, E, T> extends MapProperty<S, E, T> {
 	}
 
 	protected Map<E, T> doGetMap(S source) {
-		Set<E> set = masterProperty.getSet(source);
-		Map<E, T> map = new IdentityMap<E, T>();
-		for (Iterator<E> it = set.iterator(); it.hasNext();) {
-			E key = it.next();
-			map.put(key, detailProperty.getValue(key));
-		}
-		return map;
+		return LazyDetailValueMap.forSet(masterProperty.getSet(source),
+				detailProperty, true);
 	}
 
 	protected void doUpdateMap(S source, MapDiff<E, T> diff) {
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import org.eclipse.core.databinding.observable.ChangeEvent;
+import org.eclipse.core.databinding.observable.IChangeListener;
+import org.eclipse.core.databinding.observable.IObservable;
+
+/**
+ * Caches a snapshot computed from a master observable, for the queries of an
+ * observable which has no listeners and therefore does not maintain its
+ * contents incrementally.
+ * <p>
+ * The snapshot is discarded when the master changes, and at the latest when
+ * the current runnable of the realm completes, so that an indexed loop over
+ * the observable computes the snapshot once instead of once per query.
+ * Changes of detail values of the master elements (e.g. sort keys or filter
+ * predicates) are therefore only seen in the next runnable of the realm.
+ *
+ * @since 1.5
+ */
+public abstract class SnapshotCache<T> implements IChangeListener, Runnable {
+	private final IObservable master;
+	private T snapshot;
+
+	/**
+	 * @param master
+	 *            the observable the snapshot is computed from
+	 */
+	public SnapshotCache(IObservable master) {
+		this.master = master;
+	}
+
+	/**
+	 * @return a new snapshot of the master
+	 */
+	protected abstract T compute();
+
+	/**
+	 * @return the cached snapshot, computed if necessary
+	 */
+	public T get() {
+		if (snapshot == null) {
+			snapshot = compute();
+			master.addChangeListener(this);
+			master.getRealm().asyncExec(this);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Discards the cached snapshot.
+	 */
+	public void clear() {
+		if (snapshot != null) {
+			snapshot = null;
+			master.removeChangeListener(this);
+		}
+	}
+
+	public void handleChange(ChangeEvent event) {
+		clear();
+	}
+
+	/**
+	 * Discards the snapshot at the end of the realm runnable.
+	 */
+	public void run() {
+		clear();
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property;
+
+import org.eclipse.core.databinding.property.IProperty;
+import org.eclipse.core.databinding.property.IPropertyTraceListener;
+
+/**
+ * Reports timed operations to the {@link IPropertyTraceListener}. A traced
+ * operation is bracketed by {@link #start(int)} and
+ * {@link #end(int, IProperty, Object, int, long)}; the start time is 0 if
+ * the category is not traced, in which case ending is a no-op.
+ *
+ * @since 1.5
+ */
+public class Tracer {
+	/**
+	 * The bitwise or of the traced categories.
+	 */
+	public static volatile int categories = 0;
+
+	private static volatile IPropertyTraceListener listener;
+
+	/**
+	 * @param listener
+	 * @param categories
+	 */
+	public static synchronized void setListener(
+			IPropertyTraceListener listener, int categories) {
+		Tracer.categories = 0;
+		Tracer.listener = listener;
+		Tracer.categories = categories;
+	}
+
+	/**
+	 * @param category
+	 * @return the current time in nanoseconds if the category is traced,
+	 *         otherwise 0
+	 */
+	public static long start(int category) {
+		return (categories & category) != 0 ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Reports an operation started at the specified time, if it was traced.
+	 *
+	 * @param category
+	 * @param property
+	 * @param source
+	 *            the property source, or <code>null</code>
+	 * @param diffSize
+	 *            the number of diff entries, or -1
+	 * @param start
+	 *            the value returned by {@link #start(int)}
+	 */
+	public static void end(int category, IProperty property, Object source,
+			int diffSize, long start) {
+		if (start == 0)
+			return;
+		long duration = System.nanoTime() - start;
+		IPropertyTraceListener listener = Tracer.listener;
+		if (listener != null)
+			listener.traced(category, property, source == null ? null : source
+					.getClass(), diffSize, duration);
+	}
+}
@@ -11,6 +11,10 @@
 
 package org.eclipse.core.internal.databinding.property;
 
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
 /**
  * @since 3.3
  * 
@@ -32,4 +36,18 @@ public class Util {
 		return left == null ? right == null : ((right != null) && left
 				.equals(right));
 	}
+
+	/**
+	 * Logs an error through the data binding logger.
+	 * 
+	 * @param message
+	 *            the message
+	 * @param t
+	 *            the exception
+	 */
+	public static void log(String message, Throwable t) {
+		Policy.getLog().log(
+				new Status(IStatus.ERROR, Policy.JFACE_DATABINDING, IStatus.OK,
+						message, t));
+	}
 }
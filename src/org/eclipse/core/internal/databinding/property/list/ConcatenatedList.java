@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import org.eclipse.core.databinding.property.IPropertyView;
+
+/**
+ * An unmodifiable view of the concatenation of several lists, which does not
+ * copy the lists. The offsets of the lists are computed on each access from
+ * their current sizes, so the view reflects later changes of the lists.
+ * Positional access takes O(k) time for k lists.
+ *
+ * @since 1.5
+ */
+public class ConcatenatedList<E> extends AbstractList<E> implements
+		RandomAccess, IPropertyView<List<E>> {
+	private final List<? extends List<? extends E>> lists;
+
+	/**
+	 * @param lists
+	 */
+	public ConcatenatedList(List<? extends List<? extends E>> lists) {
+		this.lists = lists;
+	}
+
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < lists.size(); i++)
+			size += lists.get(i).size();
+		return size;
+	}
+
+	public E get(int index) {
+		if (index >= 0) {
+			int offset = index;
+			for (int i = 0; i < lists.size(); i++) {
+				List<? extends E> list = lists.get(i);
+				if (offset < list.size())
+					return list.get(offset);
+				offset -= list.size();
+			}
+		}
+		throw new IndexOutOfBoundsException("index: " + index //$NON-NLS-1$
+				+ ", size: " + size()); //$NON-NLS-1$
+	}
+
+	public List<E> snapshot() {
+		return new ArrayList<E>(this);
+	}
+
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private int list = 0;
+			private Iterator<? extends E> iterator;
+
+			public boolean hasNext() {
+				while (iterator == null || !iterator.hasNext()) {
+					if (list == lists.size())
+						return false;
+					iterator = lists.get(list++).iterator();
+				}
+				return true;
+			}
+
+			public E next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return iterator.next();
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+}
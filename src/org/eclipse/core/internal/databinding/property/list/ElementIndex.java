@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * A hash index of the elements of a list, answering membership queries in
+ * constant average time.
+ * <p>
+ * The number of occurrences of each element is maintained from the diffs of
+ * the list, so {@link #contains(Object)} and {@link #containsAll(Collection)}
+ * stay constant time per element whatever the list changes. The first and
+ * last position of each element are only maintained as long as the list
+ * grows or shrinks at its end. Any other change shifts positions and discards
+ * them, so the next {@link #indexOf(Object, List)} or
+ * {@link #lastIndexOf(Object, List)} rebuilds them from the list in O(n);
+ * position queries are constant time only between such changes.
+ *
+ * @since 1.5
+ */
+public class ElementIndex {
+	/*
+	 * Rough per-entry sizes on a 64-bit VM with compressed references: a
+	 * HashMap entry, and an int[1] or int[2] value.
+	 */
+	private static final int ENTRY_BYTES = 32;
+	private static final int COUNT_BYTES = 16;
+	private static final int POSITIONS_BYTES = 24;
+
+	private final Map<Object, int[]> counts = new HashMap<Object, int[]>();
+	private Map<Object, int[]> positions;
+	private int size;
+
+	/**
+	 * @param list
+	 *            the initial contents of the list
+	 */
+	public ElementIndex(List<?> list) {
+		for (Iterator<?> it = list.iterator(); it.hasNext();)
+			increment(it.next());
+		size = list.size();
+	}
+
+	private void increment(Object element) {
+		int[] count = counts.get(element);
+		if (count == null)
+			counts.put(element, new int[] { 1 });
+		else
+			count[0]++;
+	}
+
+	/**
+	 * @return whether the element no longer occurs
+	 */
+	private boolean decrement(Object element) {
+		int[] count = counts.get(element);
+		if (count == null)
+			return false;
+		if (--count[0] > 0)
+			return false;
+		counts.remove(element);
+		return true;
+	}
+
+	/**
+	 * Applies a diff of the list to the index.
+	 *
+	 * @param diff
+	 */
+	public void applyDiff(ListDiff<?> diff) {
+		ListDiffEntry<?>[] differences = diff.getDifferences();
+		for (int i = 0; i < differences.length; i++) {
+			ListDiffEntry<?> difference = differences[i];
+			Object element = difference.getElement();
+			int position = difference.getPosition();
+			if (difference.isAddition()) {
+				increment(element);
+				if (positions != null) {
+					if (position == size) {
+						int[] range = positions.get(element);
+						if (range == null)
+							positions.put(element, new int[] { position,
+									position });
+						else
+							range[1] = position;
+					} else {
+						positions = null;
+					}
+				}
+				size++;
+			} else {
+				boolean gone = decrement(element);
+				if (positions != null) {
+					if (gone && position == size - 1)
+						positions.remove(element);
+					else
+						positions = null;
+				}
+				size--;
+			}
+		}
+	}
+
+	/**
+	 * @param element
+	 * @return whether the element occurs in the list
+	 */
+	public boolean contains(Object element) {
+		return counts.containsKey(element);
+	}
+
+	/**
+	 * @param elements
+	 * @return whether all the elements occur in the list
+	 */
+	public boolean containsAll(Collection<?> elements) {
+		for (Iterator<?> it = elements.iterator(); it.hasNext();) {
+			if (!counts.containsKey(it.next()))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param element
+	 * @param list
+	 *            the current contents of the list, to rebuild positions from
+	 * @return the position of the first occurrence of the element, or -1
+	 */
+	public int indexOf(Object element, List<?> list) {
+		if (!counts.containsKey(element))
+			return -1;
+		return positions(list).get(element)[0];
+	}
+
+	/**
+	 * @param element
+	 * @param list
+	 *            the current contents of the list, to rebuild positions from
+	 * @return the position of the last occurrence of the element, or -1
+	 */
+	public int lastIndexOf(Object element, List<?> list) {
+		if (!counts.containsKey(element))
+			return -1;
+		return positions(list).get(element)[1];
+	}
+
+	private Map<Object, int[]> positions(List<?> list) {
+		if (positions == null) {
+			positions = new HashMap<Object, int[]>();
+			int position = 0;
+			for (Iterator<?> it = list.iterator(); it.hasNext(); position++) {
+				Object element = it.next();
+				int[] range = positions.get(element);
+				if (range == null)
+					positions.put(element, new int[] { position, position });
+				else
+					range[1] = position;
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Returns an estimate of the memory held by this index, in bytes.
+	 *
+	 * @return the estimated size of this index
+	 */
+	public long estimateFootprint() {
+		long footprint = (long) counts.size() * (ENTRY_BYTES + COUNT_BYTES);
+		if (positions != null)
+			footprint += (long) positions.size()
+					* (ENTRY_BYTES + POSITIONS_BYTES);
+		return footprint;
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.property.list.IListProperty;
+import org.eclipse.core.databinding.property.list.ListProperty;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.PropertyObservableUtil;
+
+/**
+ * @since 1.5
+ *
+ */
+public class FilteredListProperty<S, E> extends ListProperty<S, E> {
+	private final IListProperty<S, E> masterProperty;
+	private final IValueProperty<? super E, Boolean> predicate;
+
+	/**
+	 * @param masterProperty
+	 * @param predicate
+	 */
+	public FilteredListProperty(IListProperty<S, E> masterProperty,
+			IValueProperty<? super E, Boolean> predicate) {
+		this.masterProperty = masterProperty;
+		this.predicate = predicate;
+	}
+
+	public Object getElementType() {
+		return masterProperty.getElementType();
+	}
+
+	protected List<E> doGetList(S source) {
+		return FilteredObservableList.filter(masterProperty.getList(source),
+				predicate);
+	}
+
+	protected void doSetList(S source, List<E> list) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	protected void doUpdateList(S source, ListDiff<E> diff) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	public IObservableList<E> observe(Realm realm, S source) {
+		IObservableList<E> master;
+
+		ObservableTracker.setIgnore(true);
+		try {
+			master = masterProperty.observe(realm, source);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		IObservableList<E> filtered = new FilteredObservableList<E>(master,
+				predicate, getElementType());
+		PropertyObservableUtil.cascadeDispose(filtered, master);
+		return filtered;
+	}
+
+	public String toString() {
+		return masterProperty + " (filtered by " + predicate + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,353 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.list.AbstractObservableList;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.map.IMapChangeListener;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.identity.IdentityMap;
+import org.eclipse.core.internal.databinding.identity.IdentityObservableSet;
+import org.eclipse.core.internal.databinding.property.IndexedTree;
+import org.eclipse.core.internal.databinding.property.SnapshotCache;
+
+/**
+ * An unmodifiable observable list containing the elements of a master list
+ * for which a predicate property is {@link Boolean#TRUE}, in master order.
+ * <p>
+ * While the list has listeners, each master element is kept in an
+ * {@link IndexedTree} with a weight of 1 if it is included and 0 otherwise, so
+ * that the position of an element in this list is its weighted position in
+ * the tree. A flip of the predicate on one element is applied in O(log n) and
+ * reported as a single-entry list diff.
+ * <p>
+ * While the list has no listeners, its contents are filtered from the master
+ * list on demand and cached until the master list changes or the current
+ * realm runnable completes, so that predicate changes are seen in the next
+ * runnable of the realm.
+ *
+ * @since 1.5
+ */
+public class FilteredObservableList<E> extends AbstractObservableList<E>
+		implements IObserving {
+	private static class FilterNode<E> extends IndexedTree.Node<E> {
+		/**
+		 * Next node for the same element, if the master list contains the
+		 * element more than once
+		 */
+		FilterNode<E> sibling;
+
+		FilterNode(E element, int weight) {
+			super(element, weight);
+		}
+	}
+
+	private IObservableList<E> masterList;
+	private IValueProperty<? super E, Boolean> predicate;
+	private final Object elementType;
+
+	private IndexedTree<E> tree;
+	private Map<E, FilterNode<E>> nodes;
+	private IdentityObservableSet<E> knownElements;
+	private IObservableMap<E, Boolean> values;
+
+	private List<ListDiffEntry<E>> pendingEntries;
+
+	private final SnapshotCache<List<E>> unobserved;
+
+	private IListChangeListener<E> masterListener = new IListChangeListener<E>() {
+		public void handleListChange(ListChangeEvent<E> event) {
+			if (isDisposed())
+				return;
+			ListDiffEntry<E>[] differences = event.diff.getDifferences();
+			for (int i = 0; i < differences.length; i++) {
+				ListDiffEntry<E> difference = differences[i];
+				if (difference.isAddition())
+					addElement(difference.getPosition(), difference
+							.getElement());
+				else
+					removeElement(difference.getPosition());
+			}
+			fireListChange();
+		}
+	};
+
+	private IMapChangeListener<E, Boolean> valuesListener = new IMapChangeListener<E, Boolean>() {
+		public void handleMapChange(MapChangeEvent<E, Boolean> event) {
+			// additions and removals of known elements are made while a
+			// master diff is applied, and are fired with that diff
+			if (isDisposed() || tree == null
+					|| event.diff.getChangedKeys().isEmpty())
+				return;
+			for (Iterator<E> it = event.diff.getChangedKeys().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				int weight = weight(values.get(element));
+				for (FilterNode<E> node = nodes.get(element); node != null; node = node.sibling) {
+					if (node.getWeight() == weight)
+						continue;
+					if (weight == 1) {
+						tree.setWeight(node, 1);
+						addEntry(tree.weightedIndexOf(node), true, element);
+					} else {
+						addEntry(tree.weightedIndexOf(node), false, element);
+						tree.setWeight(node, 0);
+					}
+				}
+			}
+			fireListChange();
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param masterList
+	 * @param predicate
+	 * @param elementType
+	 */
+	public FilteredObservableList(IObservableList<E> masterList,
+			IValueProperty<? super E, Boolean> predicate, Object elementType) {
+		super(masterList.getRealm());
+		this.masterList = masterList;
+		this.predicate = predicate;
+		this.elementType = elementType;
+		this.unobserved = new SnapshotCache<List<E>>(masterList) {
+			protected List<E> compute() {
+				return filter(FilteredObservableList.this.masterList,
+						FilteredObservableList.this.predicate);
+			}
+		};
+	}
+
+	private static int weight(Boolean value) {
+		return Boolean.TRUE.equals(value) ? 1 : 0;
+	}
+
+	/**
+	 * Returns a new list with the specified elements for which the predicate
+	 * is {@link Boolean#TRUE}, in iteration order.
+	 *
+	 * @param elements
+	 * @param predicate
+	 * @return a filtered copy of the elements
+	 */
+	public static <E> List<E> filter(Collection<E> elements,
+			IValueProperty<? super E, Boolean> predicate) {
+		List<E> result = new ArrayList<E>();
+		for (Iterator<E> it = elements.iterator(); it.hasNext();) {
+			E element = it.next();
+			if (Boolean.TRUE.equals(predicate.getValue(element)))
+				result.add(element);
+		}
+		return result;
+	}
+
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+
+		unobserved.clear();
+		tree = new IndexedTree<E>();
+		nodes = new IdentityMap<E, FilterNode<E>>();
+		pendingEntries = new ArrayList<ListDiffEntry<E>>();
+
+		ObservableTracker.setIgnore(true);
+		try {
+			knownElements = new IdentityObservableSet<E>(getRealm(), null);
+			values = predicate.observeDetail(knownElements);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+		knownElements.addAll(masterList);
+
+		List<FilterNode<E>> initial = new ArrayList<FilterNode<E>>(masterList
+				.size());
+		for (Iterator<E> it = masterList.iterator(); it.hasNext();) {
+			E element = it.next();
+			FilterNode<E> node = new FilterNode<E>(element, weight(values
+					.get(element)));
+			node.sibling = nodes.put(element, node);
+			initial.add(node);
+		}
+		tree.build(initial);
+
+		masterList.addListChangeListener(masterListener);
+		masterList.addStaleListener(staleListener);
+		values.addMapChangeListener(valuesListener);
+	}
+
+	protected void lastListenerRemoved() {
+		if (masterList != null) {
+			masterList.removeListChangeListener(masterListener);
+			masterList.removeStaleListener(staleListener);
+		}
+		if (values != null) {
+			values.removeMapChangeListener(valuesListener);
+			values.dispose();
+			values = null;
+		}
+		if (knownElements != null) {
+			knownElements.dispose();
+			knownElements = null;
+		}
+		tree = null;
+		nodes = null;
+		pendingEntries = null;
+	}
+
+	private void addElement(int index, E element) {
+		if (!nodes.containsKey(element))
+			knownElements.add(element);
+		FilterNode<E> node = new FilterNode<E>(element, weight(values
+				.get(element)));
+		node.sibling = nodes.put(element, node);
+		tree.insert(index, node);
+		if (node.getWeight() == 1)
+			addEntry(tree.weightedIndexOf(node), true, element);
+	}
+
+	private void removeElement(int index) {
+		@SuppressWarnings("unchecked")
+		FilterNode<E> node = (FilterNode<E>) tree.getNode(index);
+		E element = node.getElement();
+
+		FilterNode<E> head = nodes.get(element);
+		if (head == node) {
+			if (node.sibling != null) {
+				nodes.put(element, node.sibling);
+			} else {
+				nodes.remove(element);
+				knownElements.remove(element);
+			}
+		} else {
+			FilterNode<E> previous = head;
+			while (previous.sibling != node)
+				previous = previous.sibling;
+			previous.sibling = node.sibling;
+		}
+
+		if (node.getWeight() == 1)
+			addEntry(tree.weightedIndexOf(node), false, element);
+		tree.remove(node);
+	}
+
+	private void addEntry(int index, boolean addition, E element) {
+		pendingEntries.add(Diffs.createListDiffEntry(index, addition, element));
+	}
+
+	private void fireListChange() {
+		if (pendingEntries.isEmpty())
+			return;
+		ListDiffEntry<E>[] differences = pendingEntries.toArray(ListDiffEntry
+				.<E> newArray(pendingEntries.size()));
+		pendingEntries.clear();
+		fireListChange(Diffs.createListDiff(differences));
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	protected int doGetSize() {
+		if (tree == null)
+			return unobserved.get().size();
+		return tree.totalWeight();
+	}
+
+	public E get(int index) {
+		getterCalled();
+		if (tree == null)
+			return unobserved.get().get(index);
+		return tree.getNodeAtWeight(index).getElement();
+	}
+
+	public Iterator<E> iterator() {
+		getterCalled();
+		if (tree == null)
+			return Collections.unmodifiableList(unobserved.get()).iterator();
+		return new Iterator<E>() {
+			private IndexedTree.Node<E> next = skipExcluded(tree.first());
+
+			public boolean hasNext() {
+				getterCalled();
+				return next != null;
+			}
+
+			public E next() {
+				getterCalled();
+				if (next == null)
+					throw new NoSuchElementException();
+				E element = next.getElement();
+				next = skipExcluded(IndexedTree.next(next));
+				return element;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+
+			private IndexedTree.Node<E> skipExcluded(IndexedTree.Node<E> node) {
+				while (node != null && node.getWeight() == 0)
+					node = IndexedTree.next(node);
+				return node;
+			}
+		};
+	}
+
+	public Object getElementType() {
+		return elementType;
+	}
+
+	public boolean isStale() {
+		getterCalled();
+		return masterList.isStale();
+	}
+
+	public Object getObserved() {
+		return masterList;
+	}
+
+	public synchronized void dispose() {
+		if (masterList != null)
+			lastListenerRemoved();
+		unobserved.clear();
+		masterList = null;
+		predicate = null;
+		masterListener = null;
+		valuesListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.list.AbstractObservableList;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.property.list.IListProperty;
+import org.eclipse.core.internal.databinding.property.IndexedTree;
+
+/**
+ * An unmodifiable observable list concatenating a list property of each
+ * element of a master list, in master order.
+ * <p>
+ * While the list has listeners, each master element is kept in an
+ * {@link IndexedTree} together with an observable of its child list, weighted
+ * by the size of the child list, so that the offset of a child list in this
+ * list is the weighted position of its node. A change of one child list is
+ * translated into a change of this list in O(log n) plus the size of the
+ * child diff, and positional access takes O(log n), without copying the
+ * concatenated list.
+ *
+ * @since 1.5
+ */
+public class FlattenedObservableList<S, E> extends AbstractObservableList<E>
+		implements IObserving {
+	private class ChildNode extends IndexedTree.Node<S> implements
+			IListChangeListener<E> {
+		final IObservableList<E> child;
+
+		ChildNode(S element, IObservableList<E> child) {
+			super(element, child.size());
+			this.child = child;
+		}
+
+		public void handleListChange(ListChangeEvent<E> event) {
+			if (isDisposed() || tree == null)
+				return;
+			int offset = tree.weightedIndexOf(this);
+			ListDiffEntry<E>[] differences = event.diff.getDifferences();
+			for (int i = 0; i < differences.length; i++) {
+				ListDiffEntry<E> difference = differences[i];
+				addEntry(offset + difference.getPosition(), difference
+						.isAddition(), difference.getElement());
+			}
+			tree.setWeight(this, child.size());
+			fireListChange();
+		}
+	}
+
+	private IObservableList<? extends S> masterList;
+	private IListProperty<S, E> childProperty;
+
+	private IndexedTree<S> tree;
+	private List<ListDiffEntry<E>> pendingEntries;
+
+	private IListChangeListener<S> masterListener = new IListChangeListener<S>() {
+		public void handleListChange(ListChangeEvent<S> event) {
+			if (isDisposed() || tree == null)
+				return;
+			ListDiffEntry<S>[] differences = event.diff.getDifferences();
+			for (int i = 0; i < differences.length; i++) {
+				ListDiffEntry<S> difference = differences[i];
+				if (difference.isAddition())
+					addChild(difference.getPosition(), difference.getElement());
+				else
+					removeChild(difference.getPosition());
+			}
+			fireListChange();
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param masterList
+	 * @param childProperty
+	 */
+	public FlattenedObservableList(IObservableList<? extends S> masterList,
+			IListProperty<S, E> childProperty) {
+		super(masterList.getRealm());
+		this.masterList = masterList;
+		this.childProperty = childProperty;
+	}
+
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+
+		tree = new IndexedTree<S>();
+		pendingEntries = new ArrayList<ListDiffEntry<E>>();
+
+		List<ChildNode> initial = new ArrayList<ChildNode>(masterList.size());
+		for (Iterator<? extends S> it = masterList.iterator(); it.hasNext();)
+			initial.add(createChild(it.next()));
+		tree.build(initial);
+
+		masterList.addListChangeListener(masterListener);
+		masterList.addStaleListener(staleListener);
+	}
+
+	protected void lastListenerRemoved() {
+		if (masterList != null) {
+			masterList.removeListChangeListener(masterListener);
+			masterList.removeStaleListener(staleListener);
+		}
+		if (tree != null) {
+			for (IndexedTree.Node<S> node = tree.first(); node != null; node = IndexedTree
+					.next(node))
+				disposeChild((ChildNode) node);
+		}
+		tree = null;
+		pendingEntries = null;
+	}
+
+	private ChildNode createChild(S element) {
+		IObservableList<E> child;
+		ObservableTracker.setIgnore(true);
+		try {
+			child = childProperty.observe(getRealm(), element);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+		ChildNode node = new ChildNode(element, child);
+		child.addListChangeListener(node);
+		child.addStaleListener(staleListener);
+		return node;
+	}
+
+	private void disposeChild(ChildNode node) {
+		node.child.removeListChangeListener(node);
+		node.child.removeStaleListener(staleListener);
+		node.child.dispose();
+	}
+
+	private void addChild(int index, S element) {
+		ChildNode node = createChild(element);
+		tree.insert(index, node);
+		int offset = tree.weightedIndexOf(node);
+		for (Iterator<E> it = node.child.iterator(); it.hasNext();)
+			addEntry(offset++, true, it.next());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void removeChild(int index) {
+		ChildNode node = (ChildNode) tree.getNode(index);
+		int offset = tree.weightedIndexOf(node);
+		for (Iterator<E> it = node.child.iterator(); it.hasNext();)
+			addEntry(offset, false, it.next());
+		tree.remove(node);
+		disposeChild(node);
+	}
+
+	private void addEntry(int index, boolean addition, E element) {
+		pendingEntries.add(Diffs.createListDiffEntry(index, addition, element));
+	}
+
+	private void fireListChange() {
+		if (pendingEntries.isEmpty())
+			return;
+		ListDiffEntry<E>[] differences = pendingEntries.toArray(ListDiffEntry
+				.<E> newArray(pendingEntries.size()));
+		pendingEntries.clear();
+		fireListChange(Diffs.createListDiff(differences));
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	protected int doGetSize() {
+		if (tree != null)
+			return tree.totalWeight();
+		int size = 0;
+		for (Iterator<? extends S> it = masterList.iterator(); it.hasNext();)
+			size += childProperty.getList(it.next()).size();
+		return size;
+	}
+
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		getterCalled();
+		if (tree != null) {
+			ChildNode node = (ChildNode) tree.getNodeAtWeight(index);
+			return node.child.get(index - tree.weightedIndexOf(node));
+		}
+		if (index >= 0) {
+			int offset = index;
+			for (Iterator<? extends S> it = masterList.iterator(); it
+					.hasNext();) {
+				List<E> list = childProperty.getList(it.next());
+				if (offset < list.size())
+					return list.get(offset);
+				offset -= list.size();
+			}
+		}
+		throw new IndexOutOfBoundsException("Index: " + index); //$NON-NLS-1$
+	}
+
+	public Iterator<E> iterator() {
+		getterCalled();
+		return new Iterator<E>() {
+			private final Iterator<? extends S> masterIterator = tree == null ? masterList
+					.iterator()
+					: null;
+			private IndexedTree.Node<S> nextNode = tree == null ? null : tree
+					.first();
+			private Iterator<E> childIterator;
+
+			@SuppressWarnings("unchecked")
+			private boolean advance() {
+				while (childIterator == null || !childIterator.hasNext()) {
+					if (masterIterator != null) {
+						if (!masterIterator.hasNext())
+							return false;
+						childIterator = childProperty.getList(
+								masterIterator.next()).iterator();
+					} else {
+						if (nextNode == null)
+							return false;
+						childIterator = ((ChildNode) nextNode).child
+								.iterator();
+						nextNode = IndexedTree.next(nextNode);
+					}
+				}
+				return true;
+			}
+
+			public boolean hasNext() {
+				getterCalled();
+				return advance();
+			}
+
+			public E next() {
+				getterCalled();
+				if (!advance())
+					throw new NoSuchElementException();
+				return childIterator.next();
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	public Object getElementType() {
+		return childProperty.getElementType();
+	}
+
+	@SuppressWarnings("unchecked")
+	public boolean isStale() {
+		getterCalled();
+		if (masterList.isStale())
+			return true;
+		if (tree != null) {
+			for (IndexedTree.Node<S> node = tree.first(); node != null; node = IndexedTree
+					.next(node)) {
+				if (((ChildNode) node).child.isStale())
+					return true;
+			}
+		}
+		return false;
+	}
+
+	public Object getObserved() {
+		return masterList;
+	}
+
+	public synchronized void dispose() {
+		if (masterList != null)
+			lastListenerRemoved();
+		masterList = null;
+		childProperty = null;
+		masterListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
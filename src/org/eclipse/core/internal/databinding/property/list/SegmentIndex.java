@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+/**
+ * Prefix sums over the sizes of a fixed number of consecutive segments of a
+ * list, kept in a binary indexed (Fenwick) tree. Finding the segment of a
+ * position, computing the offset of a segment and resizing a segment each
+ * take O(log k) time for k segments.
+ *
+ * @since 1.5
+ */
+public class SegmentIndex {
+	/** 1-based Fenwick tree of the segment sizes */
+	private final int[] tree;
+	private final int highestStep;
+
+	/**
+	 * @param sizes
+	 *            the initial sizes of the segments
+	 */
+	public SegmentIndex(int[] sizes) {
+		int n = sizes.length;
+		tree = new int[n + 1];
+		for (int i = 1; i <= n; i++) {
+			tree[i] += sizes[i - 1];
+			int parent = i + (i & -i);
+			if (parent <= n)
+				tree[parent] += tree[i];
+		}
+		int step = 1;
+		while (step <= n)
+			step <<= 1;
+		highestStep = step >> 1;
+	}
+
+	/**
+	 * @return the number of segments
+	 */
+	public int getSegmentCount() {
+		return tree.length - 1;
+	}
+
+	/**
+	 * @return the sum of the sizes of all segments
+	 */
+	public int getTotalSize() {
+		return getOffset(getSegmentCount());
+	}
+
+	/**
+	 * @param segment
+	 * @return the sum of the sizes of the segments preceding the segment
+	 */
+	public int getOffset(int segment) {
+		int sum = 0;
+		for (int i = segment; i > 0; i -= i & -i)
+			sum += tree[i];
+		return sum;
+	}
+
+	/**
+	 * @param segment
+	 * @return the size of the segment
+	 */
+	public int getSize(int segment) {
+		return getOffset(segment + 1) - getOffset(segment);
+	}
+
+	/**
+	 * Adds the specified delta to the size of a segment.
+	 *
+	 * @param segment
+	 * @param delta
+	 */
+	public void resize(int segment, int delta) {
+		for (int i = segment + 1; i < tree.length; i += i & -i)
+			tree[i] += delta;
+	}
+
+	/**
+	 * Returns the segment containing the element at the specified position.
+	 *
+	 * @param index
+	 * @return the segment containing the position
+	 * @throws IndexOutOfBoundsException
+	 *             if the position is out of range
+	 */
+	public int getSegment(int index) {
+		// the last segment whose offset is not greater than the index, which
+		// skips empty segments
+		int segment = search(index, true);
+		if (index < 0 || segment == getSegmentCount())
+			throw new IndexOutOfBoundsException("index: " + index //$NON-NLS-1$
+					+ ", size: " + getTotalSize()); //$NON-NLS-1$
+		return segment;
+	}
+
+	/**
+	 * Returns the segment into which an element inserted at the specified
+	 * position goes. A position between two segments belongs to the end of
+	 * the earlier segment.
+	 *
+	 * @param index
+	 * @return the segment for an insertion at the position
+	 * @throws IndexOutOfBoundsException
+	 *             if the position is out of range
+	 */
+	public int getInsertionSegment(int index) {
+		// the first segment whose end is not less than the index
+		int segment = search(index, false);
+		if (index < 0 || segment == getSegmentCount())
+			throw new IndexOutOfBoundsException("index: " + index //$NON-NLS-1$
+					+ ", size: " + getTotalSize()); //$NON-NLS-1$
+		return segment;
+	}
+
+	/**
+	 * Returns the largest number of leading segments whose total size is
+	 * less than (or, if inclusive, not greater than) the index.
+	 */
+	private int search(int index, boolean inclusive) {
+		int position = 0;
+		int remaining = index;
+		for (int step = highestStep; step > 0; step >>= 1) {
+			int next = position + step;
+			if (next < tree.length
+					&& (inclusive ? tree[next] <= remaining
+							: tree[next] < remaining)) {
+				position = next;
+				remaining -= tree[next];
+			}
+		}
+		return position;
+	}
+}
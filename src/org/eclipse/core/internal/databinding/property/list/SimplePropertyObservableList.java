@@ -19,6 +19,8 @@ import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.ObservableTracker;
@@ -28,9 +30,17 @@ import org.eclipse.core.databinding.observable.list.ListDiff;
 import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.property.INativePropertyListener;
 import org.eclipse.core.databinding.property.IPropertyObservable;
-import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.ISplitIterator;
+import org.eclipse.core.databinding.property.ISplittableObservable;
+import org.eclipse.core.databinding.property.PropertyTracing;
 import org.eclipse.core.databinding.property.SimplePropertyEvent;
 import org.eclipse.core.databinding.property.list.SimpleListProperty;
+import org.eclipse.core.internal.databinding.property.IDiagnosableObservable;
+import org.eclipse.core.internal.databinding.property.ArraySplitIterator;
+import org.eclipse.core.internal.databinding.property.MetricsRecorder;
+import org.eclipse.core.internal.databinding.property.ObservableRegistry;
+import org.eclipse.core.internal.databinding.property.RealmDispatchingListener;
+import org.eclipse.core.internal.databinding.property.Tracer;
 
 /**
  * @since 1.2
@@ -38,7 +48,8 @@ import org.eclipse.core.databinding.property.list.SimpleListProperty;
  */
 public class SimplePropertyObservableList<S, E> extends
 AbstractObservableList<E> implements
-IPropertyObservable<SimpleListProperty<S, E>> {
+IPropertyObservable<SimpleListProperty<S, E>>, ISplittableObservable<E>,
+IDiagnosableObservable {
 private S source;
 private SimpleListProperty<S, E> property;
 
@@ -46,11 +57,24 @@ private SimpleListProperty<S, E> property;
 
 	private volatile int modCount = 0;
 
+	/** The minimum size of a list for which queries are indexed */
+	private static final int INDEX_THRESHOLD = 32;
+
 	private INativePropertyListener<S> listener;
 
+	/** The token of the hooked source metric, if this observable was counted */
+	private Object hookedToken;
+
+	private RealmDispatchingListener<ListDiff<E>> dispatcher;
+
+	private ObservableRegistry.Registration registration;
+
 	private List<E> cachedList;
 	private boolean stale;
 
+	/** Index of cachedList, built on the first query of a large list */
+	private ElementIndex elementIndex;
+
 	/**
 	 * @param realm
 	 * @param source
@@ -61,50 +85,64 @@ private SimpleListProperty<S, E> property;
 		super(realm);
 		this.source = source;
 		this.property = property;
+		this.registration = ObservableRegistry.register(this, property,
+				source);
 	}
 
 	protected void firstListenerAdded() {
 		if (!isDisposed()) {
 			if (listener == null) {
-				listener = property
-						.adaptListener(new ISimplePropertyListener<ListDiff<E>>() {
-							public void handleEvent(
-									final SimplePropertyEvent<ListDiff<E>> event) {
-								if (!isDisposed() && !updating) {
-									getRealm().exec(new Runnable() {
-										public void run() {
-											if (event.type == SimplePropertyEvent.CHANGE) {
-												modCount++;
-												notifyIfChanged(event.diff);
-											} else if (event.type == SimplePropertyEvent.STALE
-													&& !stale) {
-												stale = true;
-												fireStale();
-											}
-										}
-									});
-								}
-							}
-						});
+				dispatcher = new RealmDispatchingListener<ListDiff<E>>(
+						getRealm(), property,
+						RealmDispatchingListener.DEFAULT_THRESHOLD) {
+					protected boolean isAccepting() {
+						return !isDisposed() && !updating;
+					}
+
+					protected void process(int type,
+							Object eventSource, ListDiff<E> diff) {
+						if (registration != null)
+							registration.touch();
+						if (type == SimplePropertyEvent.CHANGE) {
+							modCount++;
+							notifyIfChanged(diff);
+						} else if (type == SimplePropertyEvent.STALE
+								&& !stale) {
+							stale = true;
+							fireStale();
+						}
+					}
+				};
+				listener = property.adaptListener(dispatcher);
 			}
 
 			getRealm().exec(new Runnable() {
 				public void run() {
 					cachedList = new ArrayList<E>(getList());
+					elementIndex = null;
 					stale = false;
 
-					if (listener != null)
+					if (listener != null) {
 						listener.addTo(source);
+						if (MetricsRecorder.enabled)
+							hookedToken = MetricsRecorder.sourceHooked(property);
+					}
 				}
 			});
 		}
 	}
 
 	protected void lastListenerRemoved() {
-		if (listener != null)
+		if (listener != null) {
 			listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
+		}
 
 		cachedList = null;
+		elementIndex = null;
 		stale = false;
 	}
 
@@ -126,13 +164,46 @@ private SimpleListProperty<S, E> property;
 		return getList().size();
 	}
 
+	/**
+	 * Returns the index of the cached list, building it if necessary. The
+	 * cached list is current only while the source notifies this observable
+	 * of its changes.
+	 */
+	private ElementIndex getElementIndex() {
+		if (cachedList == null || listener == null)
+			return null;
+		if (elementIndex == null && cachedList.size() >= INDEX_THRESHOLD)
+			elementIndex = new ElementIndex(cachedList);
+		if (elementIndex != null && MetricsRecorder.enabled)
+			MetricsRecorder.cacheHit(property);
+		return elementIndex;
+	}
+
+	/**
+	 * Returns an estimate of the memory held by the element index of this
+	 * observable, in bytes.
+	 * 
+	 * @return the estimated size of the element index, or 0 if there is none
+	 * @since 1.5
+	 */
+	public long getIndexFootprint() {
+		ElementIndex index = elementIndex;
+		return index == null ? 0 : index.estimateFootprint();
+	}
+
 	public boolean contains(Object o) {
 		getterCalled();
+		ElementIndex index = getElementIndex();
+		if (index != null)
+			return index.contains(o);
 		return getList().contains(o);
 	}
 
 	public boolean containsAll(Collection<?> c) {
 		getterCalled();
+		ElementIndex index = getElementIndex();
+		if (index != null)
+			return index.containsAll(c);
 		return getList().containsAll(c);
 	}
 
@@ -143,6 +214,9 @@ private SimpleListProperty<S, E> property;
 
 	public int indexOf(Object o) {
 		getterCalled();
+		ElementIndex index = getElementIndex();
+		if (index != null)
+			return index.indexOf(o, cachedList);
 		return getList().indexOf(o);
 	}
 
@@ -153,6 +227,9 @@ private SimpleListProperty<S, E> property;
 
 	public int lastIndexOf(Object o) {
 		getterCalled();
+		ElementIndex index = getElementIndex();
+		if (index != null)
+			return index.lastIndexOf(o, cachedList);
 		return getList().lastIndexOf(o);
 	}
 
@@ -212,24 +289,24 @@ private SimpleListProperty<S, E> property;
 		getterCalled();
 		return new Iterator<E>() {
 			int expectedModCount = modCount;
-			List<E> list = new ArrayList<E>(getList());
-			ListIterator<E> iterator = list.listIterator();
+			List<E> list = getRandomAccessList();
+			int cursor = 0;
 
-			E lastElement = null;
 			int lastIndex = -1;
 
 			public boolean hasNext() {
 				getterCalled();
 				checkForComodification();
-				return iterator.hasNext();
+				return cursor < list.size();
 			}
 
 			public E next() {
 				getterCalled();
 				checkForComodification();
-				E next = lastElement = iterator.next();
-				lastIndex = iterator.previousIndex();
-				return next;
+				if (cursor >= list.size())
+					throw new NoSuchElementException();
+				lastIndex = cursor;
+				return list.get(cursor++);
 			}
 
 			public void remove() {
@@ -238,15 +315,14 @@ private SimpleListProperty<S, E> property;
 				if (lastIndex == -1)
 					throw new IllegalStateException();
 
-				iterator.remove(); // stay in sync
 				ListDiff<E> diff = Diffs.createListDiff(Diffs
-						.createListDiffEntry(lastIndex, false, lastElement));
-
+						.createListDiffEntry(lastIndex, false, list
+								.get(lastIndex)));
 				updateList(list, diff);
 
-				lastElement = null;
+				list = getRandomAccessList();
+				cursor = lastIndex;
 				lastIndex = -1;
-
 				expectedModCount = modCount;
 			}
 
@@ -257,6 +333,35 @@ private SimpleListProperty<S, E> property;
 		};
 	}
 
+	/**
+	 * Returns the current list of the source, in a form supporting fast
+	 * positional access, so that iterators can traverse it by index without
+	 * copying it.
+	 */
+	private List<E> getRandomAccessList() {
+		List<E> list = getList();
+		if (list instanceof RandomAccess)
+			return list;
+		return new ArrayList<E>(list);
+	}
+
+	/**
+	 * @since 1.5
+	 */
+	public ISplitIterator<E> splitIterator() {
+		getterCalled();
+		return ArraySplitIterator.of(getList(), new ComodificationGuard());
+	}
+
+	private class ComodificationGuard extends ArraySplitIterator.Guard {
+		private final int expectedModCount = modCount;
+
+		public void check() {
+			if (expectedModCount != modCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
 	public E move(int oldIndex, int newIndex) {
 		checkRealm();
 
@@ -303,83 +408,81 @@ private SimpleListProperty<S, E> property;
 
 	public ListIterator<E> listIterator(final int index) {
 		getterCalled();
+		final List<E> initial = getRandomAccessList();
+		if (index < 0 || index > initial.size())
+			throw new IndexOutOfBoundsException("Index: " + index); //$NON-NLS-1$
 		return new ListIterator<E>() {
 			int expectedModCount = modCount;
-			List<E> list = new ArrayList<E>(getList());
-			ListIterator<E> iterator = list.listIterator(index);
+			List<E> list = initial;
+			int cursor = index;
 
-			E lastElement = null;
 			int lastIndex = -1;
 
 			public boolean hasNext() {
 				getterCalled();
 				checkForComodification();
-				return iterator.hasNext();
+				return cursor < list.size();
 			}
 
 			public int nextIndex() {
 				getterCalled();
 				checkForComodification();
-				return iterator.nextIndex();
+				return cursor;
 			}
 
 			public E next() {
 				getterCalled();
 				checkForComodification();
-				lastElement = iterator.next();
-				lastIndex = iterator.previousIndex();
-				return lastElement;
+				if (cursor >= list.size())
+					throw new NoSuchElementException();
+				lastIndex = cursor;
+				return list.get(cursor++);
 			}
 
 			public boolean hasPrevious() {
 				getterCalled();
 				checkForComodification();
-				return iterator.hasPrevious();
+				return cursor > 0;
 			}
 
 			public int previousIndex() {
 				getterCalled();
 				checkForComodification();
-				return iterator.previousIndex();
+				return cursor - 1;
 			}
 
 			public E previous() {
 				getterCalled();
 				checkForComodification();
-				lastElement = iterator.previous();
-				lastIndex = iterator.nextIndex();
-				return lastElement;
+				if (cursor <= 0)
+					throw new NoSuchElementException();
+				lastIndex = --cursor;
+				return list.get(cursor);
 			}
 
 			public void add(E o) {
 				checkRealm();
 				checkForComodification();
-				int index = iterator.nextIndex();
 
 				ListDiff<E> diff = Diffs.createListDiff(Diffs
-						.createListDiffEntry(index, true, o));
-				updateList(list, diff);
-
-				iterator.add(o); // keep in sync
+						.createListDiffEntry(cursor, true, o));
+				update(diff);
 
-				lastElement = null;
+				cursor++;
 				lastIndex = -1;
-				expectedModCount = modCount;
 			}
 
 			public void set(E o) {
 				checkRealm();
 				checkForComodification();
+				if (lastIndex == -1)
+					throw new IllegalStateException();
 
 				ListDiff<E> diff = Diffs.createListDiff(Diffs
-						.createListDiffEntry(lastIndex, false, lastElement),
-						Diffs.createListDiffEntry(lastIndex, true, o));
-				updateList(list, diff);
-
-				iterator.set(o);
-
-				lastElement = o;
-				expectedModCount = modCount;
+						.createListDiffEntry(lastIndex, false, list
+								.get(lastIndex)), Diffs.createListDiffEntry(
+						lastIndex, true, o));
+				update(diff);
 			}
 
 			public void remove() {
@@ -388,14 +491,19 @@ private SimpleListProperty<S, E> property;
 				if (lastIndex == -1)
 					throw new IllegalStateException();
 
-				ListDiff<E> diff = Diffs.createListDiff(Diffs.createListDiffEntry(
-						lastIndex, false, lastElement));
-				updateList(list, diff);
-
-				iterator.remove(); // keep in sync
+				ListDiff<E> diff = Diffs.createListDiff(Diffs
+						.createListDiffEntry(lastIndex, false, list
+								.get(lastIndex)));
+				update(diff);
 
-				lastElement = null;
+				if (lastIndex < cursor)
+					cursor--;
 				lastIndex = -1;
+			}
+
+			private void update(ListDiff<E> diff) {
+				updateList(list, diff);
+				list = getRandomAccessList();
 				expectedModCount = modCount;
 			}
 
@@ -561,14 +669,28 @@ private SimpleListProperty<S, E> property;
 
 	private void notifyIfChanged(ListDiff<E> diff) {
 		if (hasListeners()) {
+			long start = Tracer.start(PropertyTracing.NOTIFY);
 			List<E> oldList = cachedList;
+			long snapshot = Tracer.start(PropertyTracing.SNAPSHOT);
 			List<E> newList = cachedList = new ArrayList<E>(getList());
+			Tracer.end(PropertyTracing.SNAPSHOT, property, source, newList
+					.size(), snapshot);
 			if (diff == null)
 				diff = Diffs.computeListDiff(oldList, newList);
+			if (elementIndex != null)
+				elementIndex.applyDiff(diff);
 			if (!diff.isEmpty() || stale) {
 				stale = false;
+				if (MetricsRecorder.enabled)
+					MetricsRecorder.changeFired(property,
+							diff.getDifferences().length);
 				fireListChange(diff);
+			} else if (MetricsRecorder.enabled) {
+				MetricsRecorder.changeSuppressed(property);
 			}
+			if (start != 0)
+				Tracer.end(PropertyTracing.NOTIFY, property, source, diff
+						.getDifferences().length, start);
 		}
 	}
 
@@ -595,10 +717,32 @@ private SimpleListProperty<S, E> property;
 		return property;
 	}
 
+	public boolean isHooked() {
+		return listener != null && hasListeners();
+	}
+
+	public long estimateCacheFootprint() {
+		List<E> list = cachedList;
+		long footprint = list == null ? 0 : (long) list.size()
+				* REFERENCE_BYTES;
+		return footprint + getIndexFootprint();
+	}
+
+	public long getCoalescedChangeCount() {
+		RealmDispatchingListener<?> dispatcher = this.dispatcher;
+		return dispatcher == null ? 0 : dispatcher.getDroppedCount();
+	}
+
 	public synchronized void dispose() {
 		if (!isDisposed()) {
+			ObservableRegistry.unregister(registration);
+			registration = null;
 			if (listener != null)
 				listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
 			property = null;
 			source = null;
 			listener = null;
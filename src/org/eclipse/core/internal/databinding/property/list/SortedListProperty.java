@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.IObservableCollection;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.property.list.IListProperty;
+import org.eclipse.core.databinding.property.list.ListProperty;
+import org.eclipse.core.databinding.property.set.ISetProperty;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.PropertyObservableUtil;
+
+/**
+ * @since 1.5
+ *
+ */
+public class SortedListProperty<S, E, K> extends ListProperty<S, E> {
+	private final IListProperty<S, E> masterList;
+	private final ISetProperty<S, E> masterSet;
+	private final IValueProperty<? super E, K> keyProperty;
+	private final Comparator<? super K> comparator;
+
+	/**
+	 * @param masterList
+	 * @param keyProperty
+	 * @param comparator
+	 */
+	public SortedListProperty(IListProperty<S, E> masterList,
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator) {
+		this.masterList = masterList;
+		this.masterSet = null;
+		this.keyProperty = keyProperty;
+		this.comparator = comparator;
+	}
+
+	/**
+	 * @param masterSet
+	 * @param keyProperty
+	 * @param comparator
+	 */
+	public SortedListProperty(ISetProperty<S, E> masterSet,
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator) {
+		this.masterList = null;
+		this.masterSet = masterSet;
+		this.keyProperty = keyProperty;
+		this.comparator = comparator;
+	}
+
+	public Object getElementType() {
+		return masterList != null ? masterList.getElementType() : masterSet
+				.getElementType();
+	}
+
+	protected List<E> doGetList(S source) {
+		Collection<E> elements = masterList != null ? masterList
+				.getList(source) : masterSet.getSet(source);
+		return SortedObservableList.sort(elements, keyProperty, comparator);
+	}
+
+	protected void doSetList(S source, List<E> list) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	protected void doUpdateList(S source, ListDiff<E> diff) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	public IObservableList<E> observe(Realm realm, S source) {
+		IObservableCollection<E> master;
+
+		ObservableTracker.setIgnore(true);
+		try {
+			if (masterList != null)
+				master = masterList.observe(realm, source);
+			else
+				master = masterSet.observe(realm, source);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		IObservableList<E> sorted = new SortedObservableList<E, K>(master,
+				keyProperty, comparator, getElementType());
+		PropertyObservableUtil.cascadeDispose(sorted, master);
+		return sorted;
+	}
+
+	public String toString() {
+		String s = (masterList != null ? (Object) masterList : masterSet)
+				+ " (sorted"; //$NON-NLS-1$
+		if (keyProperty != null)
+			s += " by " + keyProperty; //$NON-NLS-1$
+		return s + ")"; //$NON-NLS-1$
+	}
+}
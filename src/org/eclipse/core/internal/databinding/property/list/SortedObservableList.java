@@ -0,0 +1,445 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.list;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObservableCollection;
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.list.AbstractObservableList;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.map.IMapChangeListener;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.identity.IdentityMap;
+import org.eclipse.core.internal.databinding.identity.IdentityObservableSet;
+import org.eclipse.core.internal.databinding.property.IndexedTree;
+import org.eclipse.core.internal.databinding.property.SnapshotCache;
+
+/**
+ * An unmodifiable observable list containing the elements of a master list or
+ * set, sorted by the elements themselves or by a detail value of each element.
+ * <p>
+ * While the list has listeners, the elements are kept in an
+ * {@link IndexedTree}, so that each master change and each sort key change is
+ * applied in O(log n) and reported as a minimal list diff. Elements with equal
+ * sort keys keep the order in which they were added.
+ * <p>
+ * While the list has no listeners, its contents are sorted from the master
+ * collection on demand and cached until the master collection changes or the
+ * current realm runnable completes, so that sort key changes are seen in the
+ * next runnable of the realm.
+ *
+ * @since 1.5
+ */
+public class SortedObservableList<E, K> extends AbstractObservableList<E>
+		implements IObserving {
+	private static class SortedNode<E, K> extends IndexedTree.Node<E> {
+		K key;
+		final long sequence;
+
+		/**
+		 * Next node for the same element, if the master list contains the
+		 * element more than once
+		 */
+		SortedNode<E, K> sibling;
+
+		SortedNode(E element, K key, long sequence) {
+			super(element);
+			this.key = key;
+			this.sequence = sequence;
+		}
+	}
+
+	private IObservableCollection<E> masterCollection;
+	private IValueProperty<? super E, K> keyProperty;
+	private final Comparator<? super K> comparator;
+	private final Comparator<IndexedTree.Node<E>> order;
+	private final Object elementType;
+
+	private IndexedTree<E> tree;
+	private Map<E, SortedNode<E, K>> nodes;
+	private IdentityObservableSet<E> knownElements;
+	private IObservableMap<E, K> keys;
+	private long nextSequence;
+
+	private List<ListDiffEntry<E>> pendingEntries;
+
+	private final SnapshotCache<List<E>> unobserved;
+
+	private IListChangeListener<E> masterListListener = new IListChangeListener<E>() {
+		public void handleListChange(ListChangeEvent<E> event) {
+			if (isDisposed())
+				return;
+			ListDiffEntry<E>[] differences = event.diff.getDifferences();
+			for (int i = 0; i < differences.length; i++) {
+				ListDiffEntry<E> difference = differences[i];
+				if (difference.isAddition())
+					addElement(difference.getElement());
+				else
+					removeElement(difference.getElement());
+			}
+			fireListChange();
+		}
+	};
+
+	private ISetChangeListener<E> masterSetListener = new ISetChangeListener<E>() {
+		public void handleSetChange(SetChangeEvent<E> event) {
+			if (isDisposed())
+				return;
+			for (Iterator<? extends E> it = event.diff.getRemovals().iterator(); it
+					.hasNext();)
+				removeElement(it.next());
+			for (Iterator<? extends E> it = event.diff.getAdditions()
+					.iterator(); it.hasNext();)
+				addElement(it.next());
+			fireListChange();
+		}
+	};
+
+	private IMapChangeListener<E, K> keysListener = new IMapChangeListener<E, K>() {
+		public void handleMapChange(MapChangeEvent<E, K> event) {
+			// additions and removals of known elements are made while a
+			// master diff is applied, and are fired with that diff
+			if (isDisposed() || tree == null
+					|| event.diff.getChangedKeys().isEmpty())
+				return;
+			for (Iterator<E> it = event.diff.getChangedKeys().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				for (SortedNode<E, K> node = nodes.get(element); node != null; node = node.sibling)
+					reposition(node, keys.get(element));
+			}
+			fireListChange();
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param masterCollection
+	 *            the master list or set
+	 * @param keyProperty
+	 *            the property providing the sort key of each element, or
+	 *            <code>null</code> to sort by the elements themselves
+	 * @param comparator
+	 *            the comparator for sort keys, or <code>null</code> to use
+	 *            their natural ordering
+	 * @param elementType
+	 */
+	public SortedObservableList(IObservableCollection<E> masterCollection,
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator, Object elementType) {
+		super(masterCollection.getRealm());
+		this.masterCollection = masterCollection;
+		this.keyProperty = keyProperty;
+		this.comparator = comparator;
+		this.elementType = elementType;
+		this.unobserved = new SnapshotCache<List<E>>(masterCollection) {
+			protected List<E> compute() {
+				return sort(SortedObservableList.this.masterCollection,
+						SortedObservableList.this.keyProperty,
+						SortedObservableList.this.comparator);
+			}
+		};
+		final Comparator<? super K> keyComparator = keyComparator(comparator);
+		this.order = new Comparator<IndexedTree.Node<E>>() {
+			@SuppressWarnings("unchecked")
+			public int compare(IndexedTree.Node<E> o1, IndexedTree.Node<E> o2) {
+				SortedNode<E, K> node1 = (SortedNode<E, K>) o1;
+				SortedNode<E, K> node2 = (SortedNode<E, K>) o2;
+				int result = keyComparator.compare(node1.key, node2.key);
+				if (result != 0)
+					return result;
+				return node1.sequence < node2.sequence ? -1
+						: (node1.sequence == node2.sequence ? 0 : 1);
+			}
+		};
+	}
+
+	/**
+	 * Returns a comparator ordering <code>null</code> before any other key and
+	 * comparing other keys with the specified comparator, or by their natural
+	 * ordering if the comparator is <code>null</code>.
+	 */
+	private static <K> Comparator<? super K> keyComparator(
+			final Comparator<? super K> comparator) {
+		return new Comparator<K>() {
+			@SuppressWarnings("unchecked")
+			public int compare(K o1, K o2) {
+				if (o1 == null)
+					return o2 == null ? 0 : -1;
+				if (o2 == null)
+					return 1;
+				if (comparator == null)
+					return ((Comparable<Object>) o1).compareTo(o2);
+				return comparator.compare(o1, o2);
+			}
+		};
+	}
+
+	/**
+	 * Returns a new list with the specified elements, sorted the same way as
+	 * a sorted observable list with the given key property and comparator.
+	 *
+	 * @param elements
+	 * @param keyProperty
+	 * @param comparator
+	 * @return a sorted copy of the elements
+	 */
+	public static <E, K> List<E> sort(Collection<E> elements,
+			IValueProperty<? super E, K> keyProperty,
+			Comparator<? super K> comparator) {
+		if (keyProperty == null) {
+			@SuppressWarnings("unchecked") Comparator<? super E> elementComparator = (Comparator<? super E>) keyComparator(comparator);
+			List<E> result = new ArrayList<E>(elements);
+			Collections.sort(result, elementComparator);
+			return result;
+		}
+
+		// Read each key once rather than once per comparison
+		final Comparator<? super K> keyComparator = keyComparator(comparator);
+		List<SortedNode<E, K>> entries = new ArrayList<SortedNode<E, K>>(
+				elements.size());
+		for (Iterator<E> it = elements.iterator(); it.hasNext();) {
+			E element = it.next();
+			entries.add(new SortedNode<E, K>(element, keyProperty
+					.getValue(element), 0));
+		}
+		Collections.sort(entries, new Comparator<SortedNode<E, K>>() {
+			public int compare(SortedNode<E, K> o1, SortedNode<E, K> o2) {
+				return keyComparator.compare(o1.key, o2.key);
+			}
+		});
+		List<E> result = new ArrayList<E>(entries.size());
+		for (int i = 0; i < entries.size(); i++)
+			result.add(entries.get(i).getElement());
+		return result;
+	}
+
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+
+		unobserved.clear();
+		tree = new IndexedTree<E>();
+		nodes = new IdentityMap<E, SortedNode<E, K>>();
+		pendingEntries = new ArrayList<ListDiffEntry<E>>();
+
+		if (keyProperty != null) {
+			ObservableTracker.setIgnore(true);
+			try {
+				knownElements = new IdentityObservableSet<E>(getRealm(), null);
+				keys = keyProperty.observeDetail(knownElements);
+			} finally {
+				ObservableTracker.setIgnore(false);
+			}
+			knownElements.addAll(masterCollection);
+		}
+
+		List<SortedNode<E, K>> initial = new ArrayList<SortedNode<E, K>>(
+				masterCollection.size());
+		for (Iterator<E> it = masterCollection.iterator(); it.hasNext();)
+			initial.add(createNode(it.next()));
+		Collections.sort(initial, order);
+		tree.build(initial);
+
+		if (masterCollection instanceof IObservableList)
+			((IObservableList<E>) masterCollection)
+					.addListChangeListener(masterListListener);
+		else
+			((IObservableSet<E>) masterCollection)
+					.addSetChangeListener(masterSetListener);
+		masterCollection.addStaleListener(staleListener);
+		if (keys != null)
+			keys.addMapChangeListener(keysListener);
+	}
+
+	protected void lastListenerRemoved() {
+		if (masterCollection != null) {
+			if (masterCollection instanceof IObservableList)
+				((IObservableList<E>) masterCollection)
+						.removeListChangeListener(masterListListener);
+			else
+				((IObservableSet<E>) masterCollection)
+						.removeSetChangeListener(masterSetListener);
+			masterCollection.removeStaleListener(staleListener);
+		}
+		if (keys != null) {
+			keys.removeMapChangeListener(keysListener);
+			keys.dispose();
+			keys = null;
+		}
+		if (knownElements != null) {
+			knownElements.dispose();
+			knownElements = null;
+		}
+		tree = null;
+		nodes = null;
+		pendingEntries = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private SortedNode<E, K> createNode(E element) {
+		K key = keys == null ? (K) element : keys.get(element);
+		SortedNode<E, K> node = new SortedNode<E, K>(element, key,
+				nextSequence++);
+		node.sibling = nodes.put(element, node);
+		return node;
+	}
+
+	private void addElement(E element) {
+		if (knownElements != null && !nodes.containsKey(element))
+			knownElements.add(element);
+		SortedNode<E, K> node = createNode(element);
+		int index = tree.insert(node, order);
+		addEntry(index, true, element);
+	}
+
+	private void removeElement(E element) {
+		SortedNode<E, K> node = nodes.remove(element);
+		if (node == null)
+			return;
+		if (node.sibling != null)
+			nodes.put(element, node.sibling);
+		else if (knownElements != null)
+			knownElements.remove(element);
+		int index = tree.indexOf(node);
+		tree.remove(node);
+		addEntry(index, false, element);
+	}
+
+	private void reposition(SortedNode<E, K> node, K key) {
+		int oldIndex = tree.indexOf(node);
+		tree.remove(node);
+		node.key = key;
+		int newIndex = tree.insert(node, order);
+		if (oldIndex != newIndex) {
+			addEntry(oldIndex, false, node.getElement());
+			addEntry(newIndex, true, node.getElement());
+		}
+	}
+
+	private void addEntry(int index, boolean addition, E element) {
+		// A master move removes and re-adds an element, which leaves the
+		// sorted list unchanged
+		int last = pendingEntries.size() - 1;
+		if (addition && last >= 0) {
+			ListDiffEntry<E> previous = pendingEntries.get(last);
+			if (!previous.isAddition() && previous.getPosition() == index
+					&& previous.getElement() == element) {
+				pendingEntries.remove(last);
+				return;
+			}
+		}
+		pendingEntries.add(Diffs.createListDiffEntry(index, addition, element));
+	}
+
+	private void fireListChange() {
+		if (pendingEntries.isEmpty())
+			return;
+		ListDiffEntry<E>[] differences = pendingEntries.toArray(ListDiffEntry
+				.<E> newArray(pendingEntries.size()));
+		pendingEntries.clear();
+		fireListChange(Diffs.createListDiff(differences));
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	protected int doGetSize() {
+		return tree == null ? masterCollection.size() : tree.size();
+	}
+
+	public E get(int index) {
+		getterCalled();
+		if (tree == null)
+			return unobserved.get().get(index);
+		return tree.get(index);
+	}
+
+	public Iterator<E> iterator() {
+		getterCalled();
+		if (tree == null)
+			return Collections.unmodifiableList(unobserved.get()).iterator();
+		return new Iterator<E>() {
+			private IndexedTree.Node<E> next = tree.first();
+
+			public boolean hasNext() {
+				getterCalled();
+				return next != null;
+			}
+
+			public E next() {
+				getterCalled();
+				if (next == null)
+					throw new NoSuchElementException();
+				E element = next.getElement();
+				next = IndexedTree.next(next);
+				return element;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	public Object getElementType() {
+		return elementType;
+	}
+
+	public boolean isStale() {
+		getterCalled();
+		return masterCollection.isStale();
+	}
+
+	public Object getObserved() {
+		return masterCollection;
+	}
+
+	public synchronized void dispose() {
+		if (masterCollection != null)
+			lastListenerRemoved();
+		unobserved.clear();
+		masterCollection = null;
+		keyProperty = null;
+		masterListListener = null;
+		masterSetListener = null;
+		keysListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.map;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.property.map.MapProperty;
+import org.eclipse.core.databinding.property.set.ISetProperty;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.PropertyObservableUtil;
+
+/**
+ * @since 1.5
+ *
+ */
+public class GroupByMapProperty<S, E, K> extends MapProperty<S, K, Set<E>> {
+	private final ISetProperty<S, E> masterProperty;
+	private final IValueProperty<? super E, K> keyProperty;
+
+	/**
+	 * @param masterProperty
+	 * @param keyProperty
+	 */
+	public GroupByMapProperty(ISetProperty<S, E> masterProperty,
+			IValueProperty<? super E, K> keyProperty) {
+		this.masterProperty = masterProperty;
+		this.keyProperty = keyProperty;
+	}
+
+	public Object getKeyType() {
+		return keyProperty.getValueType();
+	}
+
+	public Object getValueType() {
+		return Set.class;
+	}
+
+	protected Map<K, Set<E>> doGetMap(S source) {
+		return GroupedObservableMap.group(masterProperty.getSet(source),
+				keyProperty);
+	}
+
+	protected void doSetMap(S source, Map<K, Set<E>> map) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	protected void doUpdateMap(S source, MapDiff<K, Set<E>> diff) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	public IObservableMap<K, Set<E>> observe(Realm realm, S source) {
+		IObservableSet<E> master;
+
+		ObservableTracker.setIgnore(true);
+		try {
+			master = masterProperty.observe(realm, source);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		IObservableMap<K, Set<E>> grouped = new GroupedObservableMap<K, E>(
+				master, keyProperty, getKeyType());
+		PropertyObservableUtil.cascadeDispose(grouped, master);
+		return grouped;
+	}
+
+	public String toString() {
+		return masterProperty + " (grouped by " + keyProperty + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.map;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.map.AbstractObservableMap;
+import org.eclipse.core.databinding.observable.map.IMapChangeListener;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.BucketMap;
+
+/**
+ * An unmodifiable observable map grouping the elements of a master set by the
+ * value of a key property, mapping each key to the set of elements having
+ * that key.
+ * <p>
+ * While the map has listeners, the buckets are maintained incrementally: a
+ * change of the key of one element moves that element between two buckets,
+ * and the map diff reports only the buckets which changed (see
+ * {@link BucketMap}).
+ *
+ * @since 1.5
+ */
+public class GroupedObservableMap<K, E> extends AbstractObservableMap<K, Set<E>>
+		implements IObserving {
+	private IObservableSet<E> masterSet;
+	private IValueProperty<? super E, K> keyProperty;
+	private final Object keyType;
+
+	private IObservableMap<E, K> keys;
+	private BucketMap<K, E> buckets;
+
+	private ISetChangeListener<E> masterListener = new ISetChangeListener<E>() {
+		public void handleSetChange(SetChangeEvent<E> event) {
+			if (isDisposed() || buckets == null)
+				return;
+			for (Iterator<E> it = event.diff.getRemovals().iterator(); it
+					.hasNext();) {
+				buckets.remove(it.next());
+			}
+			for (Iterator<E> it = event.diff.getAdditions().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				if (!buckets.containsElement(element))
+					buckets.put(element, keys.get(element));
+			}
+			fireMapChange();
+		}
+	};
+
+	private IMapChangeListener<E, K> keysListener = new IMapChangeListener<E, K>() {
+		public void handleMapChange(MapChangeEvent<E, K> event) {
+			if (isDisposed() || buckets == null)
+				return;
+			for (Iterator<E> it = event.diff.getChangedKeys().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				if (buckets.containsElement(element))
+					buckets.put(element, event.diff.getNewValue(element));
+			}
+			fireMapChange();
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param masterSet
+	 * @param keyProperty
+	 * @param keyType
+	 */
+	public GroupedObservableMap(IObservableSet<E> masterSet,
+			IValueProperty<? super E, K> keyProperty, Object keyType) {
+		super(masterSet.getRealm());
+		this.masterSet = masterSet;
+		this.keyProperty = keyProperty;
+		this.keyType = keyType;
+	}
+
+	/**
+	 * Returns a new map grouping the specified elements by the value of the
+	 * key property.
+	 *
+	 * @param elements
+	 * @param keyProperty
+	 * @return a map from each key to the set of elements having that key
+	 */
+	public static <K, E> Map<K, Set<E>> group(Collection<E> elements,
+			IValueProperty<? super E, K> keyProperty) {
+		Map<K, Set<E>> result = new HashMap<K, Set<E>>();
+		for (Iterator<E> it = elements.iterator(); it.hasNext();) {
+			E element = it.next();
+			K key = keyProperty.getValue(element);
+			Set<E> bucket = result.get(key);
+			if (bucket == null)
+				result.put(key, bucket = new HashSet<E>());
+			bucket.add(element);
+		}
+		return result;
+	}
+
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+
+		ObservableTracker.setIgnore(true);
+		try {
+			keys = keyProperty.observeDetail(masterSet);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		buckets = new BucketMap<K, E>(false, false);
+		for (Iterator<E> it = masterSet.iterator(); it.hasNext();) {
+			E element = it.next();
+			buckets.put(element, keys.get(element));
+		}
+		buckets.setTracking(true);
+
+		masterSet.addSetChangeListener(masterListener);
+		masterSet.addStaleListener(staleListener);
+		keys.addMapChangeListener(keysListener);
+	}
+
+	protected void lastListenerRemoved() {
+		if (masterSet != null) {
+			masterSet.removeSetChangeListener(masterListener);
+			masterSet.removeStaleListener(staleListener);
+		}
+		if (keys != null) {
+			keys.removeMapChangeListener(keysListener);
+			keys.dispose();
+			keys = null;
+		}
+		buckets = null;
+	}
+
+	private void fireMapChange() {
+		MapDiff<K, Set<E>> diff = buckets.takeDiff();
+		if (diff != null)
+			fireMapChange(diff);
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	private Map<K, Set<E>> getWrappedMap() {
+		if (buckets == null)
+			return Collections.unmodifiableMap(group(masterSet, keyProperty));
+		return buckets.asMap();
+	}
+
+	public Set<Map.Entry<K, Set<E>>> entrySet() {
+		getterCalled();
+		return getWrappedMap().entrySet();
+	}
+
+	public Set<E> get(Object key) {
+		getterCalled();
+		return getWrappedMap().get(key);
+	}
+
+	public boolean containsKey(Object key) {
+		getterCalled();
+		return getWrappedMap().containsKey(key);
+	}
+
+	public int size() {
+		getterCalled();
+		return getWrappedMap().size();
+	}
+
+	public Object getKeyType() {
+		return keyType;
+	}
+
+	public Object getValueType() {
+		return Set.class;
+	}
+
+	public boolean isStale() {
+		getterCalled();
+		return masterSet.isStale();
+	}
+
+	public Object getObserved() {
+		return masterSet;
+	}
+
+	public synchronized void dispose() {
+		if (masterSet != null)
+			lastListenerRemoved();
+		masterSet = null;
+		keyProperty = null;
+		masterListener = null;
+		keysListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -30,16 +30,21 @@ import org.eclipse.core.databinding.observable.map.AbstractObservableMap;
 import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.property.INativePropertyListener;
 import org.eclipse.core.databinding.property.IPropertyObservable;
-import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.PropertyTracing;
 import org.eclipse.core.databinding.property.SimplePropertyEvent;
 import org.eclipse.core.databinding.property.map.SimpleMapProperty;
+import org.eclipse.core.internal.databinding.property.IDiagnosableObservable;
+import org.eclipse.core.internal.databinding.property.MetricsRecorder;
+import org.eclipse.core.internal.databinding.property.ObservableRegistry;
+import org.eclipse.core.internal.databinding.property.RealmDispatchingListener;
+import org.eclipse.core.internal.databinding.property.Tracer;
 
 /**
  * @since 1.2
  */
 public class SimplePropertyObservableMap<S, K, V> extends
 AbstractObservableMap<K, V> implements
-IPropertyObservable<SimpleMapProperty<S, K, V>> {
+IPropertyObservable<SimpleMapProperty<S, K, V>>, IDiagnosableObservable {
 private S source;
 private SimpleMapProperty<S, K, V> property;
 
@@ -49,6 +54,13 @@ private volatile int modCount = 0;
 
 private INativePropertyListener<S> listener;
 
+/** The token of the hooked source metric, if this observable was counted */
+private Object hookedToken;
+
+private RealmDispatchingListener<MapDiff<K, V>> dispatcher;
+
+private ObservableRegistry.Registration registration;
+
 private Map<K, V> cachedMap;
 	private boolean stale;
 
@@ -62,6 +74,8 @@ private Map<K, V> cachedMap;
 		super(realm);
 		this.source = source;
 		this.property = property;
+		this.registration = ObservableRegistry.register(this, property,
+				source);
 	}
 
 	public Object getKeyType() {
@@ -79,26 +93,28 @@ private Map<K, V> cachedMap;
 	protected void firstListenerAdded() {
 		if (!isDisposed()) {
 			if (listener == null) {
-				listener = property
-						.adaptListener(new ISimplePropertyListener<MapDiff<K, V>>() {
-							public void handleEvent(
-									final SimplePropertyEvent<MapDiff<K, V>> event) {
-								if (!isDisposed() && !updating) {
-									getRealm().exec(new Runnable() {
-										public void run() {
-											if (event.type == SimplePropertyEvent.CHANGE) {
-												modCount++;
-												notifyIfChanged(event.diff);
-											} else if (event.type == SimplePropertyEvent.STALE
-													&& !stale) {
-												stale = true;
-												fireStale();
-											}
-										}
-									});
-								}
-							}
-						});
+				dispatcher = new RealmDispatchingListener<MapDiff<K, V>>(
+						getRealm(), property,
+						RealmDispatchingListener.DEFAULT_THRESHOLD) {
+					protected boolean isAccepting() {
+						return !isDisposed() && !updating;
+					}
+
+					protected void process(int type,
+							Object eventSource, MapDiff<K, V> diff) {
+						if (registration != null)
+							registration.touch();
+						if (type == SimplePropertyEvent.CHANGE) {
+							modCount++;
+							notifyIfChanged(diff);
+						} else if (type == SimplePropertyEvent.STALE
+								&& !stale) {
+							stale = true;
+							fireStale();
+						}
+					}
+				};
+				listener = property.adaptListener(dispatcher);
 			}
 
 			getRealm().exec(new Runnable() {
@@ -106,16 +122,24 @@ private Map<K, V> cachedMap;
 					cachedMap = new HashMap<K, V>(getMap());
 					stale = false;
 
-					if (listener != null)
+					if (listener != null) {
 						listener.addTo(source);
+						if (MetricsRecorder.enabled)
+							hookedToken = MetricsRecorder.sourceHooked(property);
+					}
 				}
 			});
 		}
 	}
 
 	protected void lastListenerRemoved() {
-		if (listener != null)
+		if (listener != null) {
 			listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
+		}
 
 		cachedMap.clear();
 		cachedMap = null;
@@ -303,14 +327,29 @@ private Map<K, V> cachedMap;
 
 	private void notifyIfChanged(MapDiff<K, V> diff) {
 		if (hasListeners()) {
+			long start = Tracer.start(PropertyTracing.NOTIFY);
 			Map<K, V> oldMap = cachedMap;
+			long snapshot = Tracer.start(PropertyTracing.SNAPSHOT);
 			Map<K, V> newMap = cachedMap = new HashMap<K, V>(getMap());
+			Tracer.end(PropertyTracing.SNAPSHOT, property, source, newMap
+					.size(), snapshot);
 			if (diff == null)
 				diff = Diffs.computeMapDiff(oldMap, newMap);
 			if (!diff.isEmpty() || stale) {
 				stale = false;
+				if (MetricsRecorder.enabled)
+					MetricsRecorder.changeFired(property, diff.getAddedKeys().size()
+							+ diff.getRemovedKeys().size()
+							+ diff.getChangedKeys().size());
 				fireMapChange(diff);
+			} else if (MetricsRecorder.enabled) {
+				MetricsRecorder.changeSuppressed(property);
 			}
+			if (start != 0)
+				Tracer.end(PropertyTracing.NOTIFY, property, source, diff
+						.getChangedKeys().size()
+						+ diff.getAddedKeys().size()
+						+ diff.getRemovedKeys().size(), start);
 		}
 	}
 
@@ -327,10 +366,30 @@ private Map<K, V> cachedMap;
 		return property;
 	}
 
+	public boolean isHooked() {
+		return listener != null && hasListeners();
+	}
+
+	public long estimateCacheFootprint() {
+		Map<K, V> map = cachedMap;
+		return map == null ? 0 : (long) map.size() * HASH_ENTRY_BYTES;
+	}
+
+	public long getCoalescedChangeCount() {
+		RealmDispatchingListener<?> dispatcher = this.dispatcher;
+		return dispatcher == null ? 0 : dispatcher.getDroppedCount();
+	}
+
 	public synchronized void dispose() {
 		if (!isDisposed()) {
+			ObservableRegistry.unregister(registration);
+			registration = null;
 			if (listener != null)
 				listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
 			property = null;
 			source = null;
 			listener = null;
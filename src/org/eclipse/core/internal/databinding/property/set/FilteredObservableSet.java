@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.set;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.map.IMapChangeListener;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.set.AbstractObservableSet;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.SnapshotCache;
+
+/**
+ * An unmodifiable observable set containing the elements of a master set for
+ * which a predicate property is {@link Boolean#TRUE}.
+ * <p>
+ * While the set has listeners, the included elements are cached, and a flip
+ * of the predicate on one element is applied in constant time and reported
+ * as a single-element set diff.
+ * <p>
+ * While the set has no listeners, its contents are filtered from the master
+ * set on demand and cached until the master set changes or the current realm
+ * runnable completes, so that predicate changes are seen in the next runnable
+ * of the realm.
+ *
+ * @since 1.5
+ */
+public class FilteredObservableSet<E> extends AbstractObservableSet<E>
+		implements IObserving {
+	private IObservableSet<E> masterSet;
+	private IValueProperty<? super E, Boolean> predicate;
+	private final Object elementType;
+
+	private IObservableMap<E, Boolean> values;
+	private Set<E> included;
+
+	private final SnapshotCache<Set<E>> unobserved;
+
+	private ISetChangeListener<E> masterListener = new ISetChangeListener<E>() {
+		public void handleSetChange(SetChangeEvent<E> event) {
+			if (isDisposed() || included == null)
+				return;
+			Set<E> additions = new HashSet<E>();
+			Set<E> removals = new HashSet<E>();
+			for (Iterator<E> it = event.diff.getRemovals().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				if (included.remove(element))
+					removals.add(element);
+			}
+			for (Iterator<E> it = event.diff.getAdditions().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				if (Boolean.TRUE.equals(values.get(element))
+						&& included.add(element))
+					additions.add(element);
+			}
+			fireSetChange(additions, removals);
+		}
+	};
+
+	private IMapChangeListener<E, Boolean> valuesListener = new IMapChangeListener<E, Boolean>() {
+		public void handleMapChange(MapChangeEvent<E, Boolean> event) {
+			if (isDisposed() || included == null)
+				return;
+			Set<E> additions = new HashSet<E>();
+			Set<E> removals = new HashSet<E>();
+			for (Iterator<E> it = event.diff.getChangedKeys().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				if (Boolean.TRUE.equals(event.diff.getNewValue(element))) {
+					if (masterSet.contains(element) && included.add(element))
+						additions.add(element);
+				} else if (included.remove(element)) {
+					removals.add(element);
+				}
+			}
+			fireSetChange(additions, removals);
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param masterSet
+	 * @param predicate
+	 * @param elementType
+	 */
+	public FilteredObservableSet(IObservableSet<E> masterSet,
+			IValueProperty<? super E, Boolean> predicate, Object elementType) {
+		super(masterSet.getRealm());
+		this.masterSet = masterSet;
+		this.predicate = predicate;
+		this.elementType = elementType;
+		this.unobserved = new SnapshotCache<Set<E>>(masterSet) {
+			protected Set<E> compute() {
+				return filter(FilteredObservableSet.this.masterSet,
+						FilteredObservableSet.this.predicate);
+			}
+		};
+	}
+
+	/**
+	 * Returns a new set with the specified elements for which the predicate
+	 * is {@link Boolean#TRUE}.
+	 *
+	 * @param elements
+	 * @param predicate
+	 * @return a filtered copy of the elements
+	 */
+	public static <E> Set<E> filter(Collection<E> elements,
+			IValueProperty<? super E, Boolean> predicate) {
+		Set<E> result = new HashSet<E>();
+		for (Iterator<E> it = elements.iterator(); it.hasNext();) {
+			E element = it.next();
+			if (Boolean.TRUE.equals(predicate.getValue(element)))
+				result.add(element);
+		}
+		return result;
+	}
+
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+
+		unobserved.clear();
+		ObservableTracker.setIgnore(true);
+		try {
+			values = predicate.observeDetail(masterSet);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		included = new HashSet<E>();
+		for (Iterator<E> it = masterSet.iterator(); it.hasNext();) {
+			E element = it.next();
+			if (Boolean.TRUE.equals(values.get(element)))
+				included.add(element);
+		}
+
+		masterSet.addSetChangeListener(masterListener);
+		masterSet.addStaleListener(staleListener);
+		values.addMapChangeListener(valuesListener);
+	}
+
+	protected void lastListenerRemoved() {
+		if (masterSet != null) {
+			masterSet.removeSetChangeListener(masterListener);
+			masterSet.removeStaleListener(staleListener);
+		}
+		if (values != null) {
+			values.removeMapChangeListener(valuesListener);
+			values.dispose();
+			values = null;
+		}
+		included = null;
+	}
+
+	private void fireSetChange(Set<E> additions, Set<E> removals) {
+		if (!additions.isEmpty() || !removals.isEmpty())
+			fireSetChange(Diffs.createSetDiff(additions, removals));
+	}
+
+	protected Set<E> getWrappedSet() {
+		if (included == null)
+			return Collections.unmodifiableSet(unobserved.get());
+		return Collections.unmodifiableSet(included);
+	}
+
+	public Object getElementType() {
+		return elementType;
+	}
+
+	public boolean isStale() {
+		getterCalled();
+		return masterSet.isStale();
+	}
+
+	public Object getObserved() {
+		return masterSet;
+	}
+
+	public synchronized void dispose() {
+		if (masterSet != null)
+			lastListenerRemoved();
+		unobserved.clear();
+		masterSet = null;
+		predicate = null;
+		masterListener = null;
+		valuesListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.set;
+
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.eclipse.core.databinding.property.set.ISetProperty;
+import org.eclipse.core.databinding.property.set.SetProperty;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.internal.databinding.property.PropertyObservableUtil;
+
+/**
+ * @since 1.5
+ *
+ */
+public class FilteredSetProperty<S, E> extends SetProperty<S, E> {
+	private final ISetProperty<S, E> masterProperty;
+	private final IValueProperty<? super E, Boolean> predicate;
+
+	/**
+	 * @param masterProperty
+	 * @param predicate
+	 */
+	public FilteredSetProperty(ISetProperty<S, E> masterProperty,
+			IValueProperty<? super E, Boolean> predicate) {
+		this.masterProperty = masterProperty;
+		this.predicate = predicate;
+	}
+
+	public Object getElementType() {
+		return masterProperty.getElementType();
+	}
+
+	protected Set<E> doGetSet(S source) {
+		return FilteredObservableSet.filter(masterProperty.getSet(source),
+				predicate);
+	}
+
+	protected void doSetSet(S source, Set<E> set) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	protected void doUpdateSet(S source, SetDiff<E> diff) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	public IObservableSet<E> observe(Realm realm, S source) {
+		IObservableSet<E> master;
+
+		ObservableTracker.setIgnore(true);
+		try {
+			master = masterProperty.observe(realm, source);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		IObservableSet<E> filtered = new FilteredObservableSet<E>(master,
+				predicate, getElementType());
+		PropertyObservableUtil.cascadeDispose(filtered, master);
+		return filtered;
+	}
+
+	public String toString() {
+		return masterProperty + " (filtered by " + predicate + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -12,11 +12,13 @@
 
 package org.eclipse.core.internal.databinding.property.set;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Diffs;
@@ -25,16 +27,25 @@ import org.eclipse.core.databinding.observable.set.AbstractObservableSet;
 import org.eclipse.core.databinding.observable.set.SetDiff;
 import org.eclipse.core.databinding.property.INativePropertyListener;
 import org.eclipse.core.databinding.property.IPropertyObservable;
-import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.ISplitIterator;
+import org.eclipse.core.databinding.property.ISplittableObservable;
+import org.eclipse.core.databinding.property.PropertyTracing;
 import org.eclipse.core.databinding.property.SimplePropertyEvent;
 import org.eclipse.core.databinding.property.set.SimpleSetProperty;
+import org.eclipse.core.internal.databinding.property.IDiagnosableObservable;
+import org.eclipse.core.internal.databinding.property.ArraySplitIterator;
+import org.eclipse.core.internal.databinding.property.MetricsRecorder;
+import org.eclipse.core.internal.databinding.property.ObservableRegistry;
+import org.eclipse.core.internal.databinding.property.RealmDispatchingListener;
+import org.eclipse.core.internal.databinding.property.Tracer;
 
 /**
  * @since 1.2
  * 
  */
 public class SimplePropertyObservableSet<S, E> extends AbstractObservableSet<E>
-implements IPropertyObservable<SimpleSetProperty<S, E>> {
+implements IPropertyObservable<SimpleSetProperty<S, E>>,
+ISplittableObservable<E>, IDiagnosableObservable {
 private S source;
 private SimpleSetProperty<S, E> property;
 
@@ -44,6 +55,13 @@ private SimpleSetProperty<S, E> property;
 
 	private INativePropertyListener<S> listener;
 
+	/** The token of the hooked source metric, if this observable was counted */
+	private Object hookedToken;
+
+	private RealmDispatchingListener<SetDiff<E>> dispatcher;
+
+	private ObservableRegistry.Registration registration;
+
 	private Set<E> cachedSet;
 	private boolean stale;
 
@@ -57,31 +75,35 @@ private SimpleSetProperty<S, E> property;
 		super(realm);
 		this.source = source;
 		this.property = property;
+		this.registration = ObservableRegistry.register(this, property,
+				source);
 	}
 
 	protected void firstListenerAdded() {
 		if (!isDisposed()) {
 			if (listener == null) {
-				listener = property
-						.adaptListener(new ISimplePropertyListener<SetDiff<E>>() {
-							public void handleEvent(
-									final SimplePropertyEvent<SetDiff<E>> event) {
-								if (!isDisposed() && !updating) {
-									getRealm().exec(new Runnable() {
-										public void run() {
-											if (event.type == SimplePropertyEvent.CHANGE) {
-												modCount++;
-												notifyIfChanged(event.diff);
-											} else if (event.type == SimplePropertyEvent.STALE
-													&& !stale) {
-												stale = true;
-												fireStale();
-											}
-										}
-									});
-								}
-							}
-						});
+				dispatcher = new RealmDispatchingListener<SetDiff<E>>(
+						getRealm(), property,
+						RealmDispatchingListener.DEFAULT_THRESHOLD) {
+					protected boolean isAccepting() {
+						return !isDisposed() && !updating;
+					}
+
+					protected void process(int type,
+							Object eventSource, SetDiff<E> diff) {
+						if (registration != null)
+							registration.touch();
+						if (type == SimplePropertyEvent.CHANGE) {
+							modCount++;
+							notifyIfChanged(diff);
+						} else if (type == SimplePropertyEvent.STALE
+								&& !stale) {
+							stale = true;
+							fireStale();
+						}
+					}
+				};
+				listener = property.adaptListener(dispatcher);
 			}
 
 			getRealm().exec(new Runnable() {
@@ -89,16 +111,24 @@ private SimpleSetProperty<S, E> property;
 					cachedSet = new HashSet<E>(getSet());
 					stale = false;
 
-					if (listener != null)
+					if (listener != null) {
 						listener.addTo(source);
+						if (MetricsRecorder.enabled)
+							hookedToken = MetricsRecorder.sourceHooked(property);
+					}
 				}
 			});
 		}
 	}
 
 	protected void lastListenerRemoved() {
-		if (listener != null)
+		if (listener != null) {
 			listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
+		}
 
 		cachedSet.clear();
 		cachedSet = null;
@@ -179,9 +209,11 @@ private SimpleSetProperty<S, E> property;
 		getterCalled();
 		return new Iterator<E>() {
 			int expectedModCount = modCount;
-			Set<E> set = new HashSet<E>(getSet());
+			Set<E> set = getSet();
 			Iterator<E> iterator = set.iterator();
+			boolean copied = false;
 			E last = null;
+			boolean canRemove = false;
 
 			public boolean hasNext() {
 				getterCalled();
@@ -193,21 +225,33 @@ private SimpleSetProperty<S, E> property;
 				getterCalled();
 				checkForComodification();
 				last = iterator.next();
+				canRemove = true;
 				return last;
 			}
 
 			public void remove() {
 				checkRealm();
 				checkForComodification();
+				if (!canRemove)
+					throw new IllegalStateException();
+
+				if (!copied) {
+					// the source set may be changed in place: continue over
+					// a copy of the remaining elements
+					List<E> remaining = new ArrayList<E>();
+					while (iterator.hasNext())
+						remaining.add(iterator.next());
+					iterator = remaining.iterator();
+					copied = true;
+				}
 
-				SetDiff<E> diff = Diffs
-						.createSetDiff(Collections.<E> emptySet(),
-								Collections.singleton(last));
+				SetDiff<E> diff = Diffs.createSetDiff(Collections.<E> emptySet(),
+						Collections.singleton(last));
 				updateSet(set, diff);
 
-				iterator.remove(); // stay in sync
-
+				set = getSet();
 				last = null;
+				canRemove = false;
 				expectedModCount = modCount;
 			}
 
@@ -218,6 +262,23 @@ private SimpleSetProperty<S, E> property;
 		};
 	}
 
+	/**
+	 * @since 1.5
+	 */
+	public ISplitIterator<E> splitIterator() {
+		getterCalled();
+		return ArraySplitIterator.of(getSet(), new ComodificationGuard());
+	}
+
+	private class ComodificationGuard extends ArraySplitIterator.Guard {
+		private final int expectedModCount = modCount;
+
+		public void check() {
+			if (expectedModCount != modCount)
+				throw new ConcurrentModificationException();
+		}
+	}
+
 	public boolean remove(Object o) {
 		getterCalled();
 
@@ -322,14 +383,27 @@ private SimpleSetProperty<S, E> property;
 
 	private void notifyIfChanged(SetDiff<E> diff) {
 		if (hasListeners()) {
+			long start = Tracer.start(PropertyTracing.NOTIFY);
 			Set<E> oldSet = cachedSet;
+			long snapshot = Tracer.start(PropertyTracing.SNAPSHOT);
 			Set<E> newSet = cachedSet = new HashSet<E>(getSet());
+			Tracer.end(PropertyTracing.SNAPSHOT, property, source, newSet
+					.size(), snapshot);
 			if (diff == null)
 				diff = Diffs.computeSetDiff(oldSet, newSet);
 			if (!diff.isEmpty() || stale) {
 				stale = false;
+				if (MetricsRecorder.enabled)
+					MetricsRecorder.changeFired(property, diff.getAdditions().size()
+							+ diff.getRemovals().size());
 				fireSetChange(diff);
+			} else if (MetricsRecorder.enabled) {
+				MetricsRecorder.changeSuppressed(property);
 			}
+			if (start != 0)
+				Tracer.end(PropertyTracing.NOTIFY, property, source, diff
+						.getAdditions().size()
+						+ diff.getRemovals().size(), start);
 		}
 	}
 
@@ -356,10 +430,30 @@ private SimpleSetProperty<S, E> property;
 		return property;
 	}
 
+	public boolean isHooked() {
+		return listener != null && hasListeners();
+	}
+
+	public long estimateCacheFootprint() {
+		Set<E> set = cachedSet;
+		return set == null ? 0 : (long) set.size() * HASH_ENTRY_BYTES;
+	}
+
+	public long getCoalescedChangeCount() {
+		RealmDispatchingListener<?> dispatcher = this.dispatcher;
+		return dispatcher == null ? 0 : dispatcher.getDroppedCount();
+	}
+
 	public synchronized void dispose() {
 		if (!isDisposed()) {
+			ObservableRegistry.unregister(registration);
+			registration = null;
 			if (listener != null)
 				listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
 			property = null;
 			source = null;
 			listener = null;
@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.set;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.set.AbstractObservableSet;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.property.IPropertyView;
+
+/**
+ * An unmodifiable observable set containing the union of several observable
+ * sets.
+ * <p>
+ * While the set has listeners, the number of input sets containing each
+ * element is counted, so that a change of one input set is applied in time
+ * proportional to the size of its diff, and an element is reported as added
+ * or removed only when its count leaves or reaches zero.
+ *
+ * @since 1.5
+ */
+public class UnionObservableSet<E> extends AbstractObservableSet<E> implements
+		IObserving {
+	/**
+	 * An unmodifiable view of the union of several sets.
+	 */
+	private static final class UnionView<E> extends AbstractSet<E> implements
+			IPropertyView<Set<E>> {
+		private final List<? extends Set<? extends E>> sets;
+
+		UnionView(List<? extends Set<? extends E>> sets) {
+			this.sets = sets;
+		}
+
+		public boolean contains(Object o) {
+			for (int i = 0; i < sets.size(); i++) {
+				if (sets.get(i).contains(o))
+					return true;
+			}
+			return false;
+		}
+
+		public boolean isEmpty() {
+			for (int i = 0; i < sets.size(); i++) {
+				if (!sets.get(i).isEmpty())
+					return false;
+			}
+			return true;
+		}
+
+		/**
+		 * Counts the distinct elements on every call, which tests each
+		 * element against the sets before it.
+		 */
+		public int size() {
+			int count = 0;
+			for (Iterator<E> it = iterator(); it.hasNext(); it.next())
+				count++;
+			return count;
+		}
+
+		public Iterator<E> iterator() {
+			return new Iterator<E>() {
+				private int index = -1;
+				private Iterator<? extends E> iterator;
+				private E next;
+				private boolean hasNext = advance();
+
+				/**
+				 * Skips the elements contained in an earlier set, so that
+				 * each element is returned once.
+				 */
+				private boolean advance() {
+					while (true) {
+						while (iterator == null || !iterator.hasNext()) {
+							if (++index >= sets.size())
+								return false;
+							iterator = sets.get(index).iterator();
+						}
+						next = iterator.next();
+						if (!containedBefore(next, index))
+							return true;
+					}
+				}
+
+				public boolean hasNext() {
+					return hasNext;
+				}
+
+				public E next() {
+					if (!hasNext)
+						throw new NoSuchElementException();
+					E result = next;
+					hasNext = advance();
+					return result;
+				}
+
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+
+		public Set<E> snapshot() {
+			return new HashSet<E>(this);
+		}
+
+		private boolean containedBefore(Object element, int index) {
+			for (int i = 0; i < index; i++) {
+				if (sets.get(i).contains(element))
+					return true;
+			}
+			return false;
+		}
+	}
+
+	private IObservableSet<? extends E>[] sets;
+	private final Object elementType;
+
+	/** Number of input sets containing each element, while listened */
+	private Map<E, int[]> counts;
+
+	private ISetChangeListener<E> inputListener = new ISetChangeListener<E>() {
+		public void handleSetChange(SetChangeEvent<E> event) {
+			if (isDisposed() || counts == null)
+				return;
+			Set<E> additions = new HashSet<E>();
+			Set<E> removals = new HashSet<E>();
+			for (Iterator<E> it = event.diff.getRemovals().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				if (decrement(element) && !additions.remove(element))
+					removals.add(element);
+			}
+			for (Iterator<E> it = event.diff.getAdditions().iterator(); it
+					.hasNext();) {
+				E element = it.next();
+				if (increment(element) && !removals.remove(element))
+					additions.add(element);
+			}
+			if (!additions.isEmpty() || !removals.isEmpty())
+				fireSetChange(Diffs.createSetDiff(additions, removals));
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param realm
+	 * @param sets
+	 * @param elementType
+	 */
+	public UnionObservableSet(Realm realm, IObservableSet<? extends E>[] sets,
+			Object elementType) {
+		super(realm);
+		this.sets = sets;
+		this.elementType = elementType;
+	}
+
+	/**
+	 * Returns an unmodifiable view of the union of the specified sets. The
+	 * view does not copy the sets; membership is tested against each set in
+	 * turn, so the view always reflects the current contents of the sets.
+	 * {@link Set#size()} counts the distinct elements on each call, in time
+	 * proportional to the total size of the sets times their number; callers
+	 * which query the size repeatedly should copy the view with
+	 * {@link IPropertyView#snapshot()}.
+	 *
+	 * @param sets
+	 * @return a view of the union of the sets
+	 */
+	public static <E> Set<E> union(List<? extends Set<? extends E>> sets) {
+		return new UnionView<E>(sets);
+	}
+
+	/**
+	 * @return whether the element was not previously contained
+	 */
+	private boolean increment(E element) {
+		int[] count = counts.get(element);
+		if (count == null) {
+			counts.put(element, new int[] { 1 });
+			return true;
+		}
+		return count[0]++ == 0;
+	}
+
+	/**
+	 * @return whether the element is no longer contained
+	 */
+	private boolean decrement(E element) {
+		int[] count = counts.get(element);
+		if (count == null)
+			return false;
+		if (--count[0] > 0)
+			return false;
+		counts.remove(element);
+		return true;
+	}
+
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+		counts = new HashMap<E, int[]>();
+		for (int i = 0; i < sets.length; i++) {
+			for (Iterator<? extends E> it = sets[i].iterator(); it.hasNext();)
+				increment(it.next());
+			sets[i].addSetChangeListener(inputListener);
+			sets[i].addStaleListener(staleListener);
+		}
+	}
+
+	protected void lastListenerRemoved() {
+		if (sets != null) {
+			for (int i = 0; i < sets.length; i++) {
+				sets[i].removeSetChangeListener(inputListener);
+				sets[i].removeStaleListener(staleListener);
+			}
+		}
+		counts = null;
+	}
+
+	protected Set<E> getWrappedSet() {
+		if (counts != null)
+			return Collections.unmodifiableSet(counts.keySet());
+		return union(Arrays.asList(sets));
+	}
+
+	public Object getElementType() {
+		return elementType;
+	}
+
+	public boolean isStale() {
+		getterCalled();
+		for (int i = 0; i < sets.length; i++) {
+			if (sets[i].isStale())
+				return true;
+		}
+		return false;
+	}
+
+	public Object getObserved() {
+		return sets;
+	}
+
+	public synchronized void dispose() {
+		if (sets != null)
+			lastListenerRemoved();
+		sets = null;
+		inputListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
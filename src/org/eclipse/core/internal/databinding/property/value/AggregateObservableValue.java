@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.map.IMapChangeListener;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.ISetChangeListener;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
+import org.eclipse.core.internal.databinding.property.IndexedTree;
+import org.eclipse.core.internal.databinding.property.Util;
+
+/**
+ * An observable value computing an {@link Aggregate} over the values of an
+ * observable list, set or map.
+ * <p>
+ * While the value has listeners, the aggregate is maintained incrementally
+ * from the diffs of the observed collection: count, sum and average are
+ * updated in constant time using primitive accumulators, and min and max in
+ * O(log n) using an {@link IndexedTree} of the values. Integral values are
+ * compared and summed as longs, so that they are exact beyond the precision
+ * of a double. Other values are summed with a compensated sum, which bounds
+ * the rounding error accumulated by additions and removals but is not exact;
+ * it is reset once all such values have been removed.
+ *
+ * @since 1.5
+ */
+public class AggregateObservableValue extends AbstractObservableValue<Number>
+		implements IObserving {
+	/**
+	 * Incrementally maintained aggregate of a multiset of numbers.
+	 */
+	static final class Accumulator {
+		private static final Comparator<IndexedTree.Node<Number>> ORDER = new Comparator<IndexedTree.Node<Number>>() {
+			public int compare(IndexedTree.Node<Number> o1,
+					IndexedTree.Node<Number> o2) {
+				ValueNode node1 = (ValueNode) o1;
+				ValueNode node2 = (ValueNode) o2;
+				if (node1.integral && node2.integral)
+					return node1.longValue < node2.longValue ? -1
+							: (node1.longValue == node2.longValue ? 0 : 1);
+				int result = Double.compare(node1.doubleValue,
+						node2.doubleValue);
+				if (result != 0 || node1.integral == node2.integral)
+					return result;
+				// longs which round to the same double are ordered among
+				// themselves above, so order them before the floating value
+				return node1.integral ? -1 : 1;
+			}
+		};
+
+		private static final class ValueNode extends IndexedTree.Node<Number> {
+			final boolean integral;
+			final long longValue;
+			final double doubleValue;
+
+			ValueNode(Number number) {
+				super(number);
+				this.integral = isIntegral(number);
+				this.longValue = number.longValue();
+				this.doubleValue = number.doubleValue();
+			}
+		}
+
+		private final Aggregate aggregate;
+		private final IndexedTree<Number> tree;
+
+		private int count;
+
+		/** Sum of the values of integral types */
+		private long integralSum;
+
+		/** Neumaier compensated sum of the other finite values */
+		private double sum;
+		private double compensation;
+		private int floatingCount;
+
+		private int nanCount;
+		private int positiveInfinityCount;
+		private int negativeInfinityCount;
+
+		Accumulator(Aggregate aggregate) {
+			this.aggregate = aggregate;
+			this.tree = aggregate == Aggregate.MIN
+					|| aggregate == Aggregate.MAX ? new IndexedTree<Number>()
+					: null;
+		}
+
+		void add(Number number) {
+			if (number == null)
+				return;
+			count++;
+			if (tree != null)
+				tree.insert(new ValueNode(number), ORDER);
+			else
+				addToSum(number, 1);
+		}
+
+		void remove(Number number) {
+			if (number == null)
+				return;
+			if (tree != null) {
+				IndexedTree.Node<Number> node = tree.find(new ValueNode(number),
+						ORDER);
+				if (node == null)
+					return;
+				tree.remove(node);
+			} else {
+				addToSum(number, -1);
+			}
+			count--;
+		}
+
+		private static boolean isIntegral(Number number) {
+			return number instanceof Integer || number instanceof Long
+					|| number instanceof Short || number instanceof Byte;
+		}
+
+		private void addToSum(Number number, int sign) {
+			if (isIntegral(number)) {
+				integralSum += sign * number.longValue();
+				return;
+			}
+
+			double value = number.doubleValue();
+			if (Double.isNaN(value)) {
+				nanCount += sign;
+			} else if (value == Double.POSITIVE_INFINITY) {
+				positiveInfinityCount += sign;
+			} else if (value == Double.NEGATIVE_INFINITY) {
+				negativeInfinityCount += sign;
+			} else {
+				floatingCount += sign;
+				if (floatingCount == 0) {
+					// drop any accumulated rounding error
+					sum = compensation = 0;
+				} else {
+					value *= sign;
+					double t = sum + value;
+					if (Math.abs(sum) >= Math.abs(value))
+						compensation += (sum - t) + value;
+					else
+						compensation += (value - t) + sum;
+					sum = t;
+				}
+			}
+		}
+
+		private double doubleSum() {
+			if (nanCount > 0
+					|| (positiveInfinityCount > 0 && negativeInfinityCount > 0))
+				return Double.NaN;
+			if (positiveInfinityCount > 0)
+				return Double.POSITIVE_INFINITY;
+			if (negativeInfinityCount > 0)
+				return Double.NEGATIVE_INFINITY;
+			return integralSum + (sum + compensation);
+		}
+
+		Number getResult() {
+			if (aggregate == Aggregate.COUNT)
+				return Integer.valueOf(count);
+			if (aggregate == Aggregate.SUM)
+				return Double.valueOf(doubleSum());
+			if (aggregate == Aggregate.AVERAGE)
+				return count == 0 ? null : Double.valueOf(doubleSum() / count);
+			IndexedTree.Node<Number> node = aggregate == Aggregate.MIN ? tree
+					.first() : tree.last();
+			return node == null ? null : node.getElement();
+		}
+	}
+
+	private IObservable values;
+	private final Aggregate aggregate;
+
+	private Accumulator accumulator;
+	private Number cachedValue;
+
+	private IListChangeListener<Number> listListener = new IListChangeListener<Number>() {
+		public void handleListChange(ListChangeEvent<Number> event) {
+			ListDiffEntry<Number>[] differences = event.diff.getDifferences();
+			for (int i = 0; i < differences.length; i++) {
+				if (differences[i].isAddition())
+					accumulator.add(differences[i].getElement());
+				else
+					accumulator.remove(differences[i].getElement());
+			}
+			notifyIfChanged();
+		}
+	};
+
+	private ISetChangeListener<Number> setListener = new ISetChangeListener<Number>() {
+		public void handleSetChange(SetChangeEvent<Number> event) {
+			for (Iterator<Number> it = event.diff.getRemovals().iterator(); it
+					.hasNext();)
+				accumulator.remove(it.next());
+			for (Iterator<Number> it = event.diff.getAdditions().iterator(); it
+					.hasNext();)
+				accumulator.add(it.next());
+			notifyIfChanged();
+		}
+	};
+
+	private IMapChangeListener<Object, Number> mapListener = new IMapChangeListener<Object, Number>() {
+		public void handleMapChange(MapChangeEvent<Object, Number> event) {
+			MapDiff<Object, Number> diff = event.diff;
+			for (Iterator<Object> it = diff.getRemovedKeys().iterator(); it
+					.hasNext();)
+				accumulator.remove(diff.getOldValue(it.next()));
+			for (Iterator<Object> it = diff.getChangedKeys().iterator(); it
+					.hasNext();) {
+				Object key = it.next();
+				accumulator.remove(diff.getOldValue(key));
+				accumulator.add(diff.getNewValue(key));
+			}
+			for (Iterator<Object> it = diff.getAddedKeys().iterator(); it
+					.hasNext();)
+				accumulator.add(diff.getNewValue(it.next()));
+			notifyIfChanged();
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param values
+	 *            an observable list, set or map of numbers
+	 * @param aggregate
+	 */
+	public AggregateObservableValue(IObservable values, Aggregate aggregate) {
+		super(values.getRealm());
+		this.values = values;
+		this.aggregate = aggregate;
+	}
+
+	/**
+	 * Computes the aggregate over the specified values.
+	 *
+	 * @param aggregate
+	 * @param values
+	 * @return the aggregate value
+	 */
+	public static Number compute(Aggregate aggregate,
+			Collection<? extends Number> values) {
+		Accumulator accumulator = new Accumulator(aggregate);
+		for (Iterator<? extends Number> it = values.iterator(); it.hasNext();)
+			accumulator.add(it.next());
+		return accumulator.getResult();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Collection<Number> valueCollection() {
+		if (values instanceof IObservableMap)
+			return ((Map<Object, Number>) values).values();
+		return (Collection<Number>) values;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+		accumulator = new Accumulator(aggregate);
+		for (Iterator<Number> it = valueCollection().iterator(); it.hasNext();)
+			accumulator.add(it.next());
+		cachedValue = accumulator.getResult();
+
+		if (values instanceof IObservableList)
+			((IObservableList<Number>) values).addListChangeListener(listListener);
+		else if (values instanceof IObservableSet)
+			((IObservableSet<Number>) values).addSetChangeListener(setListener);
+		else
+			((IObservableMap<Object, Number>) values)
+					.addMapChangeListener(mapListener);
+		values.addStaleListener(staleListener);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void lastListenerRemoved() {
+		if (values != null) {
+			if (values instanceof IObservableList)
+				((IObservableList<Number>) values)
+						.removeListChangeListener(listListener);
+			else if (values instanceof IObservableSet)
+				((IObservableSet<Number>) values)
+						.removeSetChangeListener(setListener);
+			else
+				((IObservableMap<Object, Number>) values)
+						.removeMapChangeListener(mapListener);
+			values.removeStaleListener(staleListener);
+		}
+		accumulator = null;
+		cachedValue = null;
+	}
+
+	private void notifyIfChanged() {
+		Number oldValue = cachedValue;
+		Number newValue = accumulator.getResult();
+		if (!Util.equals(oldValue, newValue)) {
+			cachedValue = newValue;
+			fireValueChange(Diffs.createValueDiff(oldValue, newValue));
+		}
+	}
+
+	protected Number doGetValue() {
+		if (accumulator != null)
+			return cachedValue;
+		return compute(aggregate, valueCollection());
+	}
+
+	public Object getValueType() {
+		return aggregate.getValueType();
+	}
+
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return values.isStale();
+	}
+
+	public Object getObserved() {
+		return values;
+	}
+
+	public synchronized void dispose() {
+		if (values != null) {
+			lastListenerRemoved();
+			values = null;
+		}
+		listListener = null;
+		setListener = null;
+		mapListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.Aggregate;
+import org.eclipse.core.databinding.property.list.IListProperty;
+import org.eclipse.core.databinding.property.map.IMapProperty;
+import org.eclipse.core.databinding.property.set.ISetProperty;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.databinding.property.value.ValueProperty;
+import org.eclipse.core.internal.databinding.property.PropertyObservableUtil;
+
+/**
+ * A read-only value property computing an {@link Aggregate} over the elements
+ * of a list or set property or the values of a map property, or over a
+ * detail value of each of them.
+ *
+ * @since 1.5
+ *
+ */
+public class AggregateValueProperty<S, E> extends ValueProperty<S, Number> {
+	private final IListProperty<S, E> masterList;
+	private final ISetProperty<S, E> masterSet;
+	private final IMapProperty<S, ?, E> masterMap;
+	private final IValueProperty<? super E, ? extends Number> detailValue;
+	private final Aggregate aggregate;
+
+	/**
+	 * @param masterList
+	 * @param detailValue
+	 *            the detail value to aggregate, or <code>null</code> to
+	 *            aggregate the elements themselves
+	 * @param aggregate
+	 */
+	public AggregateValueProperty(IListProperty<S, E> masterList,
+			IValueProperty<? super E, ? extends Number> detailValue,
+			Aggregate aggregate) {
+		this(masterList, null, null, detailValue, aggregate);
+	}
+
+	/**
+	 * @param masterSet
+	 * @param detailValue
+	 *            the detail value to aggregate, or <code>null</code> to
+	 *            aggregate the elements themselves
+	 * @param aggregate
+	 */
+	public AggregateValueProperty(ISetProperty<S, E> masterSet,
+			IValueProperty<? super E, ? extends Number> detailValue,
+			Aggregate aggregate) {
+		this(null, masterSet, null, detailValue, aggregate);
+	}
+
+	/**
+	 * @param masterMap
+	 * @param detailValue
+	 *            the detail value to aggregate, or <code>null</code> to
+	 *            aggregate the map values themselves
+	 * @param aggregate
+	 */
+	public AggregateValueProperty(IMapProperty<S, ?, E> masterMap,
+			IValueProperty<? super E, ? extends Number> detailValue,
+			Aggregate aggregate) {
+		this(null, null, masterMap, detailValue, aggregate);
+	}
+
+	private AggregateValueProperty(IListProperty<S, E> masterList,
+			ISetProperty<S, E> masterSet, IMapProperty<S, ?, E> masterMap,
+			IValueProperty<? super E, ? extends Number> detailValue,
+			Aggregate aggregate) {
+		if (aggregate == null)
+			throw new IllegalArgumentException("Aggregate cannot be null"); //$NON-NLS-1$
+		this.masterList = masterList;
+		this.masterSet = masterSet;
+		this.masterMap = masterMap;
+		this.detailValue = detailValue;
+		this.aggregate = aggregate;
+	}
+
+	public Object getValueType() {
+		return aggregate.getValueType();
+	}
+
+	@SuppressWarnings("unchecked")
+	protected Number doGetValue(S source) {
+		Collection<E> elements;
+		if (masterList != null)
+			elements = masterList.getList(source);
+		else if (masterSet != null)
+			elements = masterSet.getSet(source);
+		else
+			elements = (Collection<E>) masterMap.getMap(source).values();
+
+		if (detailValue == null)
+			return AggregateObservableValue.compute(aggregate,
+					(Collection<? extends Number>) elements);
+
+		List<Number> values = new ArrayList<Number>(elements.size());
+		for (Iterator<E> it = elements.iterator(); it.hasNext();)
+			values.add(detailValue.getValue(it.next()));
+		return AggregateObservableValue.compute(aggregate, values);
+	}
+
+	protected void doSetValue(S source, Number value) {
+		throw new UnsupportedOperationException(toString()
+				+ " is unmodifiable"); //$NON-NLS-1$
+	}
+
+	public IObservableValue<Number> observe(Realm realm, S source) {
+		IObservable master;
+		IObservable values;
+
+		ObservableTracker.setIgnore(true);
+		try {
+			if (masterList != null) {
+				IObservableList<E> list = masterList.observe(realm, source);
+				master = list;
+				values = detailValue == null ? list : detailValue
+						.observeDetail(list);
+			} else if (masterSet != null) {
+				IObservableSet<E> set = masterSet.observe(realm, source);
+				master = set;
+				values = detailValue == null ? set : detailValue
+						.observeDetail(set);
+			} else {
+				IObservableMap<?, E> map = masterMap.observe(realm, source);
+				master = map;
+				values = detailValue == null ? map : detailValue
+						.observeDetail(map);
+			}
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		IObservableValue<Number> observable = new AggregateObservableValue(
+				values, aggregate);
+		PropertyObservableUtil.cascadeDispose(observable, values);
+		if (values != master)
+			PropertyObservableUtil.cascadeDispose(values, master);
+		return observable;
+	}
+
+	public String toString() {
+		Object master = masterList != null ? (Object) masterList
+				: masterSet != null ? (Object) masterSet : masterMap;
+		String s = aggregate + "(" + master; //$NON-NLS-1$
+		if (detailValue != null)
+			s += "." + detailValue; //$NON-NLS-1$
+		return s + ")"; //$NON-NLS-1$
+	}
+}
@@ -25,8 +25,11 @@ import org.eclipse.core.databinding.observable.map.MapChangeEvent;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.ISetChangeListener;
 import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.property.Equivalences;
+import org.eclipse.core.databinding.property.IEquivalence;
 import org.eclipse.core.databinding.property.value.DelegatingValueProperty;
 import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.databinding.property.value.ValueProperty;
 import org.eclipse.core.internal.databinding.identity.IdentityMap;
 import org.eclipse.core.internal.databinding.identity.IdentityObservableSet;
 
@@ -42,12 +45,18 @@ abstract class DelegatingCache<S, K extends S, V> {
 
 	private class DelegateCache implements IMapChangeListener<K, V> {
 		private final IValueProperty<S, V> delegate;
+		private final IEquivalence<? super V> equivalence;
 		private final IObservableSet<K> masterElements;
 		private final IObservableMap<K, V> masterElementValues;
 		private final Map<K, V> cachedValues;
 
 		DelegateCache(IValueProperty<S, V> delegate) {
 			this.delegate = delegate;
+			if (delegate instanceof ValueProperty)
+				this.equivalence = ((ValueProperty<S, V>) delegate)
+						.getEquivalence();
+			else
+				this.equivalence = Equivalences.equality();
 			ObservableTracker.setIgnore(true);
 			try {
 				this.masterElements = new IdentityObservableSet<K>(realm, elements
@@ -103,9 +112,13 @@ abstract class DelegatingCache<S, K extends S, V> {
 		private void notifyIfChanged(K masterElement) {
 			V oldValue = cachedValues.get(masterElement);
 			V newValue = masterElementValues.get(masterElement);
-			if (oldValue != newValue) {
+			// cachedValues holds the values last reported, so that small
+			// changes accumulate under inexact equivalences
+			if (!equivalence.equivalent(oldValue, newValue)) {
 				cachedValues.put(masterElement, newValue);
 				handleValueChange(masterElement, oldValue, newValue);
+			} else if (equivalence.isExact()) {
+				cachedValues.put(masterElement, newValue);
 			}
 		}
 
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IStaleListener;
@@ -35,14 +36,19 @@ import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.ISetChangeListener;
 import org.eclipse.core.databinding.observable.set.SetChangeEvent;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.IEquivalence;
 import org.eclipse.core.databinding.property.INativePropertyListener;
 import org.eclipse.core.databinding.property.IPropertyObservable;
 import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.IWindowedObservable;
+import org.eclipse.core.databinding.property.PropertyTracing;
 import org.eclipse.core.databinding.property.SimplePropertyEvent;
 import org.eclipse.core.databinding.property.value.SimpleValueProperty;
 import org.eclipse.core.internal.databinding.identity.IdentityMap;
 import org.eclipse.core.internal.databinding.identity.IdentityObservableSet;
 import org.eclipse.core.internal.databinding.identity.IdentitySet;
+import org.eclipse.core.internal.databinding.property.Tracer;
+import org.eclipse.core.internal.databinding.property.RealmDispatchingListener;
 import org.eclipse.core.internal.databinding.property.Util;
 
 /**
@@ -50,9 +56,10 @@ import org.eclipse.core.internal.databinding.property.Util;
  */
 public class ListSimpleValueObservableList<S, U extends S, E> extends
 AbstractObservableList<E> implements
-IPropertyObservable<SimpleValueProperty<S, E>> {
+IPropertyObservable<SimpleValueProperty<S, E>>, IWindowedObservable {
 private IObservableList<U> masterList;
 private SimpleValueProperty<S, E> detailProperty;
+private IEquivalence<? super E> equivalence;
 
 private IObservableSet<U> knownMasterElements;
 private Map<U, E> cachedValues;
@@ -60,20 +67,23 @@ private Set<U> staleElements;
 
 private boolean updating;
 
+private int windowFrom = -1;
+private int windowTo = -1;
+private int windowMargin = 0;
+
 private IListChangeListener<U> masterListener = new IListChangeListener<U>() {
 public void handleListChange(ListChangeEvent<U> event) {
 			if (!isDisposed()) {
 				updateKnownElements();
-				fireListChange(convertDiff(event.diff));
+				long start = Tracer.start(PropertyTracing.CONVERT_DIFF);
+				ListDiff<E> diff = convertDiff(event.diff);
+				if (start != 0)
+					Tracer.end(PropertyTracing.CONVERT_DIFF, detailProperty,
+							null, diff.getDifferences().length, start);
+				fireListChange(diff);
 			}
 		}
 
-		private void updateKnownElements() {
-			Set<U> identityKnownElements = new IdentitySet<U>(masterList);
-			knownMasterElements.retainAll(identityKnownElements);
-			knownMasterElements.addAll(identityKnownElements);
-		}
-
 		private ListDiff<E> convertDiff(ListDiff<U> diff) {
 			// Convert diff to detail value
 			ListDiffEntry<U>[] masterEntries = diff.getDifferences();
@@ -101,6 +111,9 @@ public void handleListChange(ListChangeEvent<U> event) {
 
 	private INativePropertyListener<S> detailListener;
 
+	/** Populates cachedValues in parallel if the property is thread safe */
+	private Executor populationExecutor;
+
 	/**
 	 * @param masterList
 	 * @param valueProperty
@@ -110,25 +123,25 @@ public void handleListChange(ListChangeEvent<U> event) {
 		super(masterList.getRealm());
 		this.masterList = masterList;
 		this.detailProperty = valueProperty;
+		this.equivalence = valueProperty.getEquivalence();
+		this.populationExecutor = ParallelPopulation.getExecutor(valueProperty);
 
-		ISimplePropertyListener<ValueDiff<E>> listener = new ISimplePropertyListener<ValueDiff<E>>() {
-			public void handleEvent(
-					final SimplePropertyEvent<ValueDiff<E>> event) {
-				if (!isDisposed() && !updating) {
-					getRealm().exec(new Runnable() {
-						public void run() {
-							@SuppressWarnings("unchecked") U source = (U) event
-									.getSource();
-							if (event.type == SimplePropertyEvent.CHANGE) {
-								notifyIfChanged(source);
-							} else if (event.type == SimplePropertyEvent.STALE) {
-								boolean wasStale = !staleElements.isEmpty();
-								staleElements.add(source);
-								if (!wasStale)
-									fireStale();
-							}
-						}
-					});
+		ISimplePropertyListener<ValueDiff<E>> listener = new RealmDispatchingListener<ValueDiff<E>>(
+				getRealm(), detailProperty) {
+			protected boolean isAccepting() {
+				return !isDisposed() && !updating;
+			}
+
+			protected void process(int type, Object eventSource,
+					ValueDiff<E> diff) {
+				@SuppressWarnings("unchecked") U source = (U) eventSource;
+				if (type == SimplePropertyEvent.CHANGE) {
+					notifyIfChanged(source);
+				} else if (type == SimplePropertyEvent.STALE) {
+					boolean wasStale = !staleElements.isEmpty();
+					staleElements.add(source);
+					if (!wasStale)
+						fireStale();
 				}
 			}
 		};
@@ -158,6 +171,8 @@ public void handleListChange(ListChangeEvent<U> event) {
 				for (Iterator<U> it = event.diff.getAdditions().iterator(); it
 						.hasNext();) {
 					U key = it.next();
+					if (cachedValues.containsKey(key))
+						continue; // populated in parallel
 					cachedValues.put(key, detailProperty.getValue(key));
 					if (detailListener != null)
 						detailListener.addTo(key);
@@ -166,7 +181,11 @@ public void handleListChange(ListChangeEvent<U> event) {
 		});
 		getRealm().exec(new Runnable() {
 			public void run() {
-				knownMasterElements.addAll(masterList);
+				if (populationExecutor != null)
+					ParallelPopulation.populate(observedMasterElements(),
+							detailProperty, null, detailListener,
+							populationExecutor, cachedValues, null);
+				knownMasterElements.addAll(observedMasterElements());
 
 				masterList.addListChangeListener(masterListener);
 				masterList.addStaleListener(staleListener);
@@ -174,6 +193,65 @@ public void handleListChange(ListChangeEvent<U> event) {
 		});
 	}
 
+	private void updateKnownElements() {
+		Set<U> identityKnownElements = new IdentitySet<U>(
+				observedMasterElements());
+		knownMasterElements.retainAll(identityKnownElements);
+		knownMasterElements.addAll(identityKnownElements);
+	}
+
+	/**
+	 * Returns the master elements whose detail values are to be observed: the
+	 * entire master list, or only the elements inside the window (including
+	 * the margin) if a window is set.
+	 */
+	private List<U> observedMasterElements() {
+		if (windowFrom == -1)
+			return masterList;
+		int size = masterList.size();
+		int from = Math.min(Math.max(0, windowFrom - windowMargin), size);
+		int to = Math.max(from, (int) Math.min((long) windowTo + windowMargin,
+				size));
+		return masterList.subList(from, to);
+	}
+
+	public void setWindow(int fromIndex, int toIndex) {
+		checkRealm();
+		if (fromIndex < 0 || toIndex < fromIndex)
+			throw new IllegalArgumentException("Invalid window: [" + fromIndex //$NON-NLS-1$
+					+ ", " + toIndex + ")"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (fromIndex == windowFrom && toIndex == windowTo)
+			return;
+		windowFrom = fromIndex;
+		windowTo = toIndex;
+		if (knownMasterElements != null)
+			updateKnownElements();
+	}
+
+	public void clearWindow() {
+		checkRealm();
+		if (windowFrom == -1)
+			return;
+		windowFrom = windowTo = -1;
+		if (knownMasterElements != null)
+			updateKnownElements();
+	}
+
+	public void setWindowMargin(int margin) {
+		checkRealm();
+		if (margin < 0)
+			throw new IllegalArgumentException("Negative margin: " + margin); //$NON-NLS-1$
+		if (margin == windowMargin)
+			return;
+		windowMargin = margin;
+		if (knownMasterElements != null && windowFrom != -1)
+			updateKnownElements();
+	}
+
+	public int getWindowMargin() {
+		return windowMargin;
+	}
+
 	protected void lastListenerRemoved() {
 		if (masterList != null) {
 			masterList.removeListChangeListener(masterListener);
@@ -386,18 +464,30 @@ public void handleListChange(ListChangeEvent<U> event) {
 					updating = wasUpdating;
 				}
 
-				notifyIfChanged(lastMasterElement);
+				notifyIfChanged(lastMasterElement, lastElement);
 
 				lastElement = o;
 			}
 		};
 	}
 
+	private void notifyIfChanged(U masterElement, E knownOldValue) {
+		if (cachedValues != null && !cachedValues.containsKey(masterElement)) {
+			// Element is outside the window, so there is no cached value
+			E newValue = detailProperty.getValue(masterElement);
+			if (!equivalence.equivalent(knownOldValue, newValue))
+				fireListChange(indicesOf(masterElement), knownOldValue,
+						newValue);
+		} else {
+			notifyIfChanged(masterElement);
+		}
+	}
+
 	private void notifyIfChanged(U masterElement) {
-		if (cachedValues != null) {
+		if (cachedValues != null && cachedValues.containsKey(masterElement)) {
 			E oldValue = cachedValues.get(masterElement);
 			E newValue = detailProperty.getValue(masterElement);
-			if (!Util.equals(oldValue, newValue)
+			if (!equivalence.equivalent(oldValue, newValue)
 					|| staleElements.contains(masterElement)) {
 				cachedValues.put(masterElement, newValue);
 				staleElements.remove(masterElement);
@@ -452,7 +542,7 @@ public void handleListChange(ListChangeEvent<U> event) {
 			updating = wasUpdating;
 		}
 
-		notifyIfChanged(masterElement);
+		notifyIfChanged(masterElement, oldValue);
 
 		return oldValue;
 	}
@@ -480,6 +570,7 @@ public void handleListChange(ListChangeEvent<U> event) {
 		masterListener = null;
 		detailListener = null;
 		detailProperty = null;
+		equivalence = null;
 		cachedValues = null;
 		staleElements = null;
 
@@ -168,7 +168,8 @@ public class MapDelegatingValueObservableMap<S, K, I extends S, V> extends Abstr
 				V oldValue = cache.get(oldMasterValue);
 				V newValue = cache.get(newMasterValue);
 
-				if (Util.equals(oldValue, newValue)) {
+				if (detailProperty.getEquivalence().equivalent(oldValue,
+						newValue)) {
 					it.remove();
 				} else {
 					oldValues.put(key, oldValue);
@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IStaleListener;
@@ -32,14 +33,20 @@ import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.ISetChangeListener;
 import org.eclipse.core.databinding.observable.set.SetChangeEvent;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.IEquivalence;
 import org.eclipse.core.databinding.property.INativePropertyListener;
 import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.IValueIndexedObservable;
 import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.PropertyTracing;
 import org.eclipse.core.databinding.property.SimplePropertyEvent;
 import org.eclipse.core.databinding.property.value.SimpleValueProperty;
 import org.eclipse.core.internal.databinding.identity.IdentityMap;
 import org.eclipse.core.internal.databinding.identity.IdentityObservableSet;
 import org.eclipse.core.internal.databinding.identity.IdentitySet;
+import org.eclipse.core.internal.databinding.property.BucketMap;
+import org.eclipse.core.internal.databinding.property.Tracer;
+import org.eclipse.core.internal.databinding.property.RealmDispatchingListener;
 import org.eclipse.core.internal.databinding.property.Util;
 
 /**
@@ -47,22 +54,41 @@ import org.eclipse.core.internal.databinding.property.Util;
  * 
  */
 public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractObservableMap<K, V> implements
-		IPropertyObservable<SimpleValueProperty<S, V>> {
+		IPropertyObservable<SimpleValueProperty<S, V>>,
+		IValueIndexedObservable<K, V> {
 	private IObservableMap<K, I> masterMap;
 	private SimpleValueProperty<S, V> detailProperty;
+	private IEquivalence<? super V> equivalence;
 
 	private IObservableSet<I> knownMasterValues;
 	private Map<I, V> cachedValues;
 	private Set<I> staleMasterValues;
 
+	/** Index of the keys by master value and by value, built on first use */
+	private BucketMap<I, K> masterKeys;
+	private BucketMap<V, K> valueIndex;
+	private ValueIndexObservableMap<K, V> valueIndexObservable;
+
 	private boolean updating = false;
 
 	private IMapChangeListener<K, I> masterListener = new IMapChangeListener<K, I>() {
 		public void handleMapChange(final MapChangeEvent<K, I> event) {
 			if (!isDisposed()) {
 				updateKnownValues();
-				if (!updating)
-					fireMapChange(convertDiff(event.diff));
+				if (valueIndex != null)
+					updateValueIndex(event.diff);
+				if (!updating) {
+					long start = Tracer.start(PropertyTracing.CONVERT_DIFF);
+					MapDiff<K, V> diff = convertDiff(event.diff);
+					if (start != 0)
+						Tracer.end(PropertyTracing.CONVERT_DIFF,
+								detailProperty, null, event.diff
+										.getChangedKeys().size()
+										+ event.diff.getAddedKeys().size()
+										+ event.diff.getRemovedKeys().size(),
+								start);
+					fireMapChange(diff);
+				}
 			}
 		}
 
@@ -72,6 +98,26 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 			knownMasterValues.addAll(knownValues);
 		}
 
+		private void updateValueIndex(MapDiff<K, I> diff) {
+			for (Iterator<K> it = diff.getRemovedKeys().iterator(); it
+					.hasNext();) {
+				K key = it.next();
+				masterKeys.remove(key);
+				valueIndex.remove(key);
+			}
+			for (Iterator<K> it = diff.getAddedKeys().iterator(); it.hasNext();)
+				indexKey(it.next());
+			for (Iterator<K> it = diff.getChangedKeys().iterator(); it
+					.hasNext();)
+				indexKey(it.next());
+		}
+
+		private void indexKey(K key) {
+			I masterValue = masterMap.get(key);
+			masterKeys.put(key, masterValue);
+			valueIndex.put(key, cachedValues.get(masterValue));
+		}
+
 		private MapDiff<K, V> convertDiff(MapDiff<K, I> diff) {
 			Map<K, V> oldValues = new IdentityMap<K, V>();
 			Map<K, V> newValues = new IdentityMap<K, V>();
@@ -102,7 +148,7 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 				V oldValue = detailProperty.getValue(oldSource);
 				V newValue = detailProperty.getValue(newSource);
 
-				if (Util.equals(oldValue, newValue)) {
+				if (equivalence.equivalent(oldValue, newValue)) {
 					it.remove();
 				} else {
 					oldValues.put(key, oldValue);
@@ -123,6 +169,9 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 
 	private INativePropertyListener<S> detailListener;
 
+	/** Populates cachedValues in parallel if the property is thread safe */
+	private Executor populationExecutor;
+
 	/**
 	 * @param map
 	 * @param valueProperty
@@ -132,26 +181,25 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 		super(map.getRealm());
 		this.masterMap = map;
 		this.detailProperty = valueProperty;
+		this.equivalence = valueProperty.getEquivalence();
+		this.populationExecutor = ParallelPopulation.getExecutor(valueProperty);
 
-		ISimplePropertyListener<ValueDiff<V>> listener = new ISimplePropertyListener<ValueDiff<V>>() {
-			public void handleEvent(
-					final SimplePropertyEvent<ValueDiff<V>> event) {
-				if (!isDisposed() && !updating) {
-					getRealm().exec(new Runnable() {
-						public void run() {
-							// TODO should we type the source, too?
-							@SuppressWarnings("unchecked") I source = (I) event
-									.getSource();
-							if (event.type == SimplePropertyEvent.CHANGE) {
-								notifyIfChanged(source);
-							} else if (event.type == SimplePropertyEvent.STALE) {
-								boolean wasStale = !staleMasterValues.isEmpty();
-								staleMasterValues.add(source);
-								if (!wasStale)
-									fireStale();
-							}
-						}
-					});
+		ISimplePropertyListener<ValueDiff<V>> listener = new RealmDispatchingListener<ValueDiff<V>>(
+				getRealm(), detailProperty) {
+			protected boolean isAccepting() {
+				return !isDisposed() && !updating;
+			}
+
+			protected void process(int type, Object eventSource,
+					ValueDiff<V> diff) {
+				@SuppressWarnings("unchecked") I source = (I) eventSource;
+				if (type == SimplePropertyEvent.CHANGE) {
+					notifyIfChanged(source);
+				} else if (type == SimplePropertyEvent.STALE) {
+					boolean wasStale = !staleMasterValues.isEmpty();
+					staleMasterValues.add(source);
+					if (!wasStale)
+						fireStale();
 				}
 			}
 		};
@@ -189,6 +237,8 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 				for (Iterator<I> it = event.diff.getAdditions().iterator(); it
 						.hasNext();) {
 					I key = it.next();
+					if (cachedValues.containsKey(key))
+						continue; // populated in parallel
 					cachedValues.put(key, detailProperty.getValue(key));
 					if (detailListener != null)
 						detailListener.addTo(key);
@@ -198,6 +248,10 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 
 		getRealm().exec(new Runnable() {
 			public void run() {
+				if (populationExecutor != null)
+					ParallelPopulation.populate(masterMap.values(),
+							detailProperty, null, detailListener,
+							populationExecutor, cachedValues, null);
 				knownMasterValues.addAll(masterMap.values());
 
 				masterMap.addMapChangeListener(masterListener);
@@ -217,6 +271,8 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 		cachedValues = null;
 		staleMasterValues.clear();
 		staleMasterValues = null;
+		masterKeys = null;
+		valueIndex = null;
 	}
 
 	private Set<Map.Entry<K, V>> entrySet;
@@ -289,6 +345,9 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 			}
 
 			notifyIfChanged(source);
+			// master changes during the update were indexed but not reported
+			if (valueIndexObservable != null)
+				valueIndexObservable.indexChanged();
 
 			return oldValue;
 		}
@@ -354,10 +413,14 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 			final V oldValue = cachedValues.get(masterValue);
 			final V newValue = detailProperty.getValue(masterValue);
 
-			if (!Util.equals(oldValue, newValue)
+			if (!equivalence.equivalent(oldValue, newValue)
 					|| staleMasterValues.contains(masterValue)) {
 				cachedValues.put(masterValue, newValue);
 				staleMasterValues.remove(masterValue);
+				if (valueIndex != null) {
+					for (Iterator<K> it = keys.iterator(); it.hasNext();)
+						valueIndex.put(it.next(), newValue);
+				}
 				fireMapChange(new MapDiff<K, V>() {
 					public Set<K> getAddedKeys() {
 						return Collections.emptySet();
@@ -384,6 +447,12 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 	}
 
 	private Set<K> keysFor(I value) {
+		if (masterKeys != null) {
+			Set<K> keys = masterKeys.get(value);
+			return keys == null ? new IdentitySet<K>() : new IdentitySet<K>(
+					keys);
+		}
+
 		Set<K> keys = new IdentitySet<K>();
 
 		for (Map.Entry<K, I> entry : masterMap.entrySet()) {
@@ -395,6 +464,55 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 		return keys;
 	}
 
+	private BucketMap<V, K> valueIndex() {
+		if (valueIndex == null && cachedValues != null) {
+			masterKeys = new BucketMap<I, K>(true, true);
+			valueIndex = new BucketMap<V, K>(false, true);
+			for (Iterator<Map.Entry<K, I>> it = masterMap.entrySet()
+					.iterator(); it.hasNext();) {
+				Map.Entry<K, I> entry = it.next();
+				masterKeys.put(entry.getKey(), entry.getValue());
+				valueIndex.put(entry.getKey(), cachedValues.get(entry
+						.getValue()));
+			}
+		}
+		return valueIndex;
+	}
+
+	public boolean containsValue(Object value) {
+		getterCalled();
+		if (valueIndex() == null)
+			return super.containsValue(value);
+		return valueIndex.containsKey(value);
+	}
+
+	public Set<K> getKeysForValue(Object value) {
+		getterCalled();
+		if (valueIndex() != null) {
+			Set<K> keys = valueIndex.get(value);
+			return keys == null ? Collections.<K> emptySet() : keys;
+		}
+		Set<K> keys = new IdentitySet<K>();
+		for (Iterator<Map.Entry<K, V>> it = entrySet().iterator(); it
+				.hasNext();) {
+			Map.Entry<K, V> entry = it.next();
+			if (Util.equals(entry.getValue(), value))
+				keys.add(entry.getKey());
+		}
+		return Collections.unmodifiableSet(keys);
+	}
+
+	public IObservableMap<V, Set<K>> getValueIndex() {
+		if (valueIndexObservable == null) {
+			valueIndexObservable = new ValueIndexObservableMap<K, V>(this) {
+				BucketMap<V, K> activateIndex() {
+					return valueIndex();
+				}
+			};
+		}
+		return valueIndexObservable;
+	}
+
 	public boolean isStale() {
 		getterCalled();
 		return masterMap.isStale() || staleMasterValues != null
@@ -414,6 +532,10 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 	}
 
 	public synchronized void dispose() {
+		if (valueIndexObservable != null) {
+			valueIndexObservable.dispose();
+			valueIndexObservable = null;
+		}
 		if (masterMap != null) {
 			masterMap.removeMapChangeListener(masterListener);
 			masterMap = null;
@@ -427,8 +549,11 @@ public class MapSimpleValueObservableMap<S, K, I extends S, V> extends AbstractO
 		masterListener = null;
 		detailListener = null;
 		detailProperty = null;
+		equivalence = null;
 		cachedValues = null;
 		staleMasterValues = null;
+		masterKeys = null;
+		valueIndex = null;
 
 		super.dispose();
 	}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IThreadSafeProperty;
+import org.eclipse.core.databinding.property.IVersionedProperty;
+import org.eclipse.core.databinding.property.value.SimpleValueProperty;
+import org.eclipse.core.internal.databinding.identity.IdentitySet;
+import org.eclipse.core.internal.databinding.property.Util;
+
+/**
+ * Reads the initial detail values of many master elements and hooks the
+ * native listener to them in parallel chunks, for detail observables of an
+ * {@link IThreadSafeProperty}.
+ * <p>
+ * Each chunk hooks the listener to an element before reading its version and
+ * value, so that no change after the read is missed. The caller waits until
+ * all chunks are done and then fills its caches, so that the realm never
+ * sees a partially populated observable. If a chunk fails, nothing is
+ * published and the caller populates the elements serially, as if no
+ * executor was set.
+ *
+ * @since 1.5
+ */
+public class ParallelPopulation<S, K extends S, V> implements Runnable {
+	/** The minimum number of elements worth a chunk of its own */
+	private static final int MIN_CHUNK_SIZE = 512;
+
+	private static final int MAX_CHUNKS = Runtime.getRuntime()
+			.availableProcessors() * 4;
+
+	private final Object[] elements;
+	private final Object[] values;
+	private final long[] versions;
+	private final boolean[] hooked;
+	private final SimpleValueProperty<S, V> property;
+	private final IVersionedProperty<S> versionedProperty;
+	private final INativePropertyListener<S> listener;
+	private final int chunks;
+	private final int chunkSize;
+	private final CountDownLatch done;
+	private volatile Throwable failure;
+	private int nextChunk;
+
+	private ParallelPopulation(Object[] elements,
+			SimpleValueProperty<S, V> property,
+			IVersionedProperty<S> versionedProperty,
+			INativePropertyListener<S> listener, int chunks) {
+		this.elements = elements;
+		this.values = new Object[elements.length];
+		this.versions = versionedProperty == null ? null
+				: new long[elements.length];
+		this.hooked = new boolean[elements.length];
+		this.property = property;
+		this.versionedProperty = versionedProperty;
+		this.listener = listener;
+		this.chunks = chunks;
+		this.chunkSize = (elements.length + chunks - 1) / chunks;
+		this.done = new CountDownLatch(chunks);
+	}
+
+	/**
+	 * @param property
+	 * @return the executor to populate detail observables of the property on,
+	 *         or <code>null</code> if they are populated in the realm
+	 */
+	public static Executor getExecutor(Object property) {
+		if (property instanceof IThreadSafeProperty)
+			return ((IThreadSafeProperty) property).getPopulationExecutor();
+		return null;
+	}
+
+	/**
+	 * Reads the values of the elements, and their versions if the property is
+	 * versioned, and hooks the listener to them. Elements which are already
+	 * contained in <code>values</code> are skipped.
+	 * <p>
+	 * If reading or hooking fails on an executor thread with a runtime
+	 * exception, the failure is logged, the listener is unhooked from the
+	 * elements and <code>values</code> is left unchanged, so that the caller
+	 * populates the elements serially. An error is rethrown.
+	 *
+	 * @param elements
+	 *            the master elements, possibly with duplicates
+	 * @param property
+	 * @param versionedProperty
+	 *            the property if it is versioned, otherwise <code>null</code>
+	 * @param listener
+	 *            the native listener, or <code>null</code>
+	 * @param executor
+	 * @param values
+	 *            the map receiving the values of the elements
+	 * @param versions
+	 *            the map receiving the versions of the elements, or
+	 *            <code>null</code> if the property is not versioned
+	 */
+	public static <S, K extends S, V> void populate(
+			Collection<? extends K> elements,
+			SimpleValueProperty<S, V> property,
+			IVersionedProperty<S> versionedProperty,
+			INativePropertyListener<S> listener, Executor executor,
+			Map<K, V> values, Map<K, Long> versions) {
+		IdentitySet<K> unique = new IdentitySet<K>(elements);
+		unique.removeAll(values.keySet());
+		Object[] array = unique.toArray();
+		int chunks = Math.min(array.length / MIN_CHUNK_SIZE, MAX_CHUNKS);
+		if (chunks < 1)
+			chunks = 1;
+		ParallelPopulation<S, K, V> population = new ParallelPopulation<S, K, V>(
+				array, property, versionedProperty, listener, chunks);
+		// the caller processes chunks too, so that a saturated executor
+		// cannot stall it
+		for (int i = 1; i < chunks; i++)
+			executor.execute(population);
+		population.run();
+		population.await();
+		population.publish(values, versions);
+	}
+
+	/**
+	 * Processes chunks until none are left.
+	 */
+	public void run() {
+		for (;;) {
+			int chunk;
+			synchronized (this) {
+				if (nextChunk == chunks)
+					return;
+				chunk = nextChunk++;
+			}
+			try {
+				populate(chunk * chunkSize, Math.min((chunk + 1) * chunkSize,
+						elements.length));
+			} catch (Throwable t) {
+				failure = t;
+			} finally {
+				done.countDown();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private K element(int i) {
+		return (K) elements[i];
+	}
+
+	private void populate(int from, int to) {
+		for (int i = from; i < to && failure == null; i++) {
+			K element = element(i);
+			if (listener != null) {
+				listener.addTo(element);
+				hooked[i] = true;
+			}
+			if (versions != null)
+				versions[i] = versionedProperty.getVersion(element);
+			values[i] = property.getValue(element);
+		}
+	}
+
+	private void await() {
+		boolean interrupted = false;
+		for (;;) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void publish(Map<K, V> valueMap, Map<K, Long> versionMap) {
+		if (failure != null) {
+			// unhook what was hooked, as if population never started
+			for (int i = 0; i < elements.length; i++) {
+				if (hooked[i])
+					listener.removeFrom(element(i));
+			}
+			if (failure instanceof Error)
+				throw (Error) failure;
+			Util.log("Parallel population of " + property //$NON-NLS-1$
+					+ " failed, populating serially", failure); //$NON-NLS-1$
+			return;
+		}
+		for (int i = 0; i < elements.length; i++) {
+			K element = element(i);
+			valueMap.put(element, (V) values[i]);
+			if (versionMap != null)
+				versionMap.put(element, Long.valueOf(versions[i]));
+		}
+	}
+}
@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.eclipse.core.internal.databinding.property.Util;
+
+/**
+ * Samples registered poll targets on a single background thread. Targets are
+ * kept in a timing wheel, so that each tick only visits the targets which are
+ * due. Each target's interval adapts to how often its value changes: it is
+ * reset to the minimum interval whenever a change is observed and grows
+ * gradually towards the maximum interval while the value stays the same.
+ *
+ * @since 1.5
+ */
+public class PollingScheduler {
+	/**
+	 * A source being polled.
+	 */
+	public interface IPollTarget {
+		/**
+		 * Samples the source and records its value. Must not notify
+		 * listeners.
+		 *
+		 * @return whether the value changed since the last sample
+		 */
+		public boolean sample();
+
+		/**
+		 * Fires a change event for the change found by the last call to
+		 * {@link #sample()}.
+		 */
+		public void notifyChange();
+	}
+
+	/**
+	 * Handle of a registered poll target, used to cancel polling.
+	 */
+	public static final class Registration {
+		final IPollTarget target;
+		final long minTicks;
+		final long maxTicks;
+		long intervalTicks;
+		long dueTick;
+		volatile boolean cancelled;
+
+		Registration(IPollTarget target, long minTicks, long maxTicks) {
+			this.target = target;
+			this.minTicks = minTicks;
+			this.maxTicks = maxTicks;
+			this.intervalTicks = minTicks;
+		}
+
+		/**
+		 * Stops polling the target. The target may be sampled one more time
+		 * if a tick is currently in progress.
+		 */
+		public void cancel() {
+			cancelled = true;
+		}
+	}
+
+	/** Length of one tick in milliseconds */
+	static final long TICK_MILLIS = 10;
+
+	private static final long TICK_NANOS = TICK_MILLIS * 1000000;
+
+	private static final int WHEEL_SIZE = 1024;
+
+	/**
+	 * Maximum number of samples taken per tick. Targets exceeding the budget
+	 * are deferred to the following tick.
+	 */
+	private static final int BATCH_SIZE = 4096;
+
+	private static PollingScheduler defaultScheduler;
+
+	private final List<Registration>[] wheel;
+	private final ConcurrentLinkedQueue<Registration> pending = new ConcurrentLinkedQueue<Registration>();
+	private final Object lock = new Object();
+	private final String name;
+
+	private long currentTick = 0;
+	private int registrationCount = 0;
+	private Thread thread;
+
+	/**
+	 * Returns the scheduler shared by all polling properties.
+	 *
+	 * @return the scheduler shared by all polling properties
+	 */
+	public static synchronized PollingScheduler getDefault() {
+		if (defaultScheduler == null)
+			defaultScheduler = new PollingScheduler(
+					"Data Binding Property Poller"); //$NON-NLS-1$
+		return defaultScheduler;
+	}
+
+	/**
+	 * @param name
+	 *            the name of the polling thread
+	 */
+	@SuppressWarnings("unchecked")
+	public PollingScheduler(String name) {
+		this.name = name;
+		this.wheel = new List[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; i++)
+			wheel[i] = new ArrayList<Registration>();
+	}
+
+	/**
+	 * Registers the target to be polled with an interval between the
+	 * specified bounds. The first sample is spread randomly over the minimum
+	 * interval, so that targets registered together are not all sampled in
+	 * the same tick.
+	 *
+	 * @param target
+	 *            the target to poll
+	 * @param minIntervalMillis
+	 *            the minimum polling interval
+	 * @param maxIntervalMillis
+	 *            the maximum polling interval
+	 * @return a handle for cancelling the registration
+	 */
+	public Registration register(IPollTarget target, long minIntervalMillis,
+			long maxIntervalMillis) {
+		long minTicks = Math.max(1, minIntervalMillis / TICK_MILLIS);
+		long maxTicks = Math.max(minTicks, maxIntervalMillis / TICK_MILLIS);
+		Registration registration = new Registration(target, minTicks,
+				maxTicks);
+		registration.dueTick = 1 + (System.identityHashCode(target) & 0x7fffffff)
+				% minTicks;
+		pending.add(registration);
+		synchronized (lock) {
+			registrationCount++;
+			if (thread == null)
+				startThread();
+			lock.notifyAll();
+		}
+		return registration;
+	}
+
+	/**
+	 * Starts the polling thread. Called while holding the lock.
+	 */
+	private void startThread() {
+		thread = new Thread(new Runnable() {
+			public void run() {
+				runLoop();
+			}
+		}, name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void runLoop() {
+		// the monotonic clock, so that wall clock adjustments neither stall
+		// polling nor cause catch-up ticks
+		long next = System.nanoTime();
+		while (true) {
+			synchronized (lock) {
+				while (registrationCount == 0) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+					next = System.nanoTime();
+				}
+			}
+
+			long delay = next - System.nanoTime();
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay / 1000000, (int) (delay % 1000000));
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+			next += TICK_NANOS;
+
+			tick();
+		}
+	}
+
+	private void tick() {
+		for (Registration registration; (registration = pending.poll()) != null;) {
+			// the due tick of a pending registration is its initial offset
+			registration.dueTick += currentTick;
+			schedule(registration);
+		}
+
+		int index = (int) (currentTick % WHEEL_SIZE);
+		List<Registration> due = wheel[index];
+		List<Registration> slot = wheel[index] = new ArrayList<Registration>();
+		List<Registration> deferred = null;
+		List<Registration> changed = null;
+		int samples = 0;
+		int cancelled = 0;
+
+		for (int i = 0; i < due.size(); i++) {
+			Registration registration = due.get(i);
+			if (registration.cancelled) {
+				cancelled++;
+			} else if (registration.dueTick > currentTick) {
+				// due in a later revolution of the wheel
+				slot.add(registration);
+			} else if (samples >= BATCH_SIZE) {
+				if (deferred == null)
+					deferred = new ArrayList<Registration>();
+				deferred.add(registration);
+			} else {
+				samples++;
+				if (sample(registration)) {
+					if (changed == null)
+						changed = new ArrayList<Registration>();
+					changed.add(registration);
+				}
+			}
+		}
+
+		currentTick++;
+
+		if (deferred != null) {
+			for (int i = 0; i < deferred.size(); i++) {
+				Registration registration = deferred.get(i);
+				registration.dueTick = currentTick;
+				schedule(registration);
+			}
+		}
+
+		if (cancelled > 0) {
+			synchronized (lock) {
+				registrationCount -= cancelled;
+			}
+		}
+
+		// notify once the wheel is consistent, and each target on its own,
+		// so that an exception thrown by a listener neither loses
+		// registrations nor the changes of the other targets
+		if (changed != null) {
+			for (int i = 0; i < changed.size(); i++)
+				notifyChange(changed.get(i));
+		}
+	}
+
+	private void notifyChange(Registration registration) {
+		try {
+			registration.target.notifyChange();
+		} catch (RuntimeException e) {
+			Util.log("Could not notify the change of " + registration.target, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @return whether the value of the target changed
+	 */
+	private boolean sample(Registration registration) {
+		boolean changed;
+		try {
+			changed = registration.target.sample();
+		} catch (RuntimeException e) {
+			// keep polling the other targets; a failing getter is treated
+			// like an unchanged value
+			Util.log("Could not poll " + registration.target, e); //$NON-NLS-1$
+			changed = false;
+		}
+
+		if (changed) {
+			registration.intervalTicks = registration.minTicks;
+		} else {
+			registration.intervalTicks = Math.min(registration.maxTicks,
+					registration.intervalTicks + registration.intervalTicks
+							/ 2 + 1);
+		}
+		registration.dueTick = currentTick + registration.intervalTicks;
+		schedule(registration);
+		return changed;
+	}
+
+	private void schedule(Registration registration) {
+		wheel[(int) (registration.dueTick % WHEEL_SIZE)].add(registration);
+	}
+}
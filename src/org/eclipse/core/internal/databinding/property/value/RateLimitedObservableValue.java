@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.databinding.property.IEquivalence;
+import org.eclipse.core.databinding.property.IRateLimitedObservable;
+import org.eclipse.core.databinding.property.value.IRateLimitScheduler;
+import org.eclipse.core.databinding.property.value.RateLimit;
+
+/**
+ * An observable value which coalesces the change events of a wrapped
+ * observable according to a {@link RateLimit}. While listeners are attached,
+ * {@link #getValue()} returns the value last delivered to them, so that the
+ * value and the events stay consistent.
+ * <p>
+ * At most one timer is outstanding at any time, regardless of how often the
+ * wrapped observable changes.
+ *
+ * @since 1.5
+ */
+public class RateLimitedObservableValue<T> extends AbstractObservableValue<T>
+		implements IObserving, IRateLimitedObservable {
+	private IObservableValue<T> decorated;
+	private final RateLimit rateLimit;
+	private final IEquivalence<? super T> equivalence;
+	private final IRateLimitScheduler scheduler;
+	private final long interval;
+
+	private T deliveredValue;
+	private boolean pending;
+	private boolean scheduled;
+	private long lastChangeTime;
+	private long lastDeliveryTime;
+
+	/**
+	 * Incremented to invalidate the outstanding timer, if any
+	 */
+	private int generation;
+
+	private long deliveredCount;
+	private long droppedCount;
+
+	private IValueChangeListener<T> valueChangeListener = new IValueChangeListener<T>() {
+		public void handleValueChange(ValueChangeEvent<T> event) {
+			handleDecoratedChange();
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param decorated
+	 * @param rateLimit
+	 * @param equivalence
+	 *            the equivalence of the rate limited property, deciding
+	 *            which changes are reverted before delivery
+	 */
+	public RateLimitedObservableValue(IObservableValue<T> decorated,
+			RateLimit rateLimit, IEquivalence<? super T> equivalence) {
+		super(decorated.getRealm());
+		this.decorated = decorated;
+		this.rateLimit = rateLimit;
+		this.equivalence = equivalence;
+		this.scheduler = rateLimit.getScheduler();
+		this.interval = rateLimit.getIntervalMillis();
+	}
+
+	protected void firstListenerAdded() {
+		deliveredValue = decorated.getValue();
+		pending = false;
+		lastDeliveryTime = now() - interval;
+		decorated.addValueChangeListener(valueChangeListener);
+		decorated.addStaleListener(staleListener);
+	}
+
+	protected void lastListenerRemoved() {
+		if (decorated != null) {
+			decorated.removeValueChangeListener(valueChangeListener);
+			decorated.removeStaleListener(staleListener);
+		}
+		cancelTimer();
+		if (pending) {
+			pending = false;
+			droppedCount++;
+		}
+		deliveredValue = null;
+	}
+
+	private void handleDecoratedChange() {
+		if (pending)
+			droppedCount++; // superseded by this change
+		pending = true;
+		long now = lastChangeTime = now();
+
+		switch (rateLimit.getMode()) {
+		case RateLimit.THROTTLE:
+			if (!scheduled) {
+				long wait = lastDeliveryTime + interval - now;
+				if (wait <= 0)
+					deliver(now);
+				else
+					schedule(wait);
+			}
+			break;
+		case RateLimit.DEBOUNCE:
+			if (!scheduled)
+				schedule(interval);
+			break;
+		default:
+			// align sampling to multiples of the period, so that a busy
+			// value is delivered at a steady rate
+			if (!scheduled)
+				schedule(interval - (now % interval));
+		}
+	}
+
+	private void timerExpired(int token) {
+		if (token != generation || isDisposed())
+			return;
+		scheduled = false;
+		long now = now();
+		if (rateLimit.getMode() == RateLimit.DEBOUNCE) {
+			long quiet = now - lastChangeTime;
+			if (quiet < interval) {
+				schedule(interval - quiet);
+				return;
+			}
+		}
+		if (pending)
+			deliver(now);
+	}
+
+	private void deliver(long now) {
+		pending = false;
+		lastDeliveryTime = now;
+		T oldValue = deliveredValue;
+		T newValue = decorated.getValue();
+		if (equivalence.equivalent(oldValue, newValue)) {
+			// reverted before delivery; keep the value last delivered unless
+			// equivalent values are interchangeable
+			if (equivalence.isExact())
+				deliveredValue = newValue;
+			droppedCount++;
+			return;
+		}
+		deliveredValue = newValue;
+		deliveredCount++;
+		fireValueChange(Diffs.createValueDiff(oldValue, newValue));
+	}
+
+	private void schedule(long delayMillis) {
+		scheduled = true;
+		final int token = generation;
+		Runnable timer = new Runnable() {
+			public void run() {
+				if (!isDisposed()) {
+					getRealm().exec(new Runnable() {
+						public void run() {
+							timerExpired(token);
+						}
+					});
+				}
+			}
+		};
+		if (scheduler == null)
+			getRealm().timerExec((int) Math.min(delayMillis, Integer.MAX_VALUE),
+					timer);
+		else
+			scheduler.schedule(delayMillis, timer);
+	}
+
+	private void cancelTimer() {
+		generation++;
+		scheduled = false;
+	}
+
+	private long now() {
+		if (scheduler == null)
+			return System.nanoTime() / 1000000;
+		return scheduler.currentTimeMillis();
+	}
+
+	protected T doGetValue() {
+		if (hasListeners())
+			return deliveredValue;
+		return decorated.getValue();
+	}
+
+	protected void doSetValue(T value) {
+		decorated.setValue(value);
+	}
+
+	public Object getValueType() {
+		return decorated.getValueType();
+	}
+
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return decorated.isStale();
+	}
+
+	public Object getObserved() {
+		if (decorated instanceof IObserving)
+			return ((IObserving) decorated).getObserved();
+		return null;
+	}
+
+	public RateLimit getRateLimit() {
+		return rateLimit;
+	}
+
+	public long getDeliveredCount() {
+		return deliveredCount;
+	}
+
+	public long getDroppedCount() {
+		return droppedCount;
+	}
+
+	public synchronized void dispose() {
+		cancelTimer();
+		if (decorated != null) {
+			decorated.removeValueChangeListener(valueChangeListener);
+			decorated.removeStaleListener(staleListener);
+			decorated.dispose();
+			decorated = null;
+		}
+		deliveredValue = null;
+		valueChangeListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.property.IEquivalence;
+import org.eclipse.core.databinding.property.value.IValueProperty;
+import org.eclipse.core.databinding.property.value.RateLimit;
+import org.eclipse.core.databinding.property.value.ValueProperty;
+
+/**
+ * @since 1.5
+ *
+ */
+public class RateLimitedValueProperty<S, T> extends ValueProperty<S, T> {
+	private final IValueProperty<S, T> delegate;
+	private final RateLimit rateLimit;
+
+	/**
+	 * @param delegate
+	 * @param rateLimit
+	 */
+	public RateLimitedValueProperty(IValueProperty<S, T> delegate,
+			RateLimit rateLimit) {
+		if (rateLimit == null)
+			throw new IllegalArgumentException("Rate limit cannot be null"); //$NON-NLS-1$
+		this.delegate = delegate;
+		this.rateLimit = rateLimit;
+	}
+
+	public Object getValueType() {
+		return delegate.getValueType();
+	}
+
+	protected T doGetValue(S source) {
+		return delegate.getValue(source);
+	}
+
+	protected void doSetValue(S source, T value) {
+		delegate.setValue(source, value);
+	}
+
+	public IEquivalence<? super T> getEquivalence() {
+		if (delegate instanceof ValueProperty)
+			return ((ValueProperty<S, T>) delegate).getEquivalence();
+		return super.getEquivalence();
+	}
+
+	public IObservableValue<T> observe(Realm realm, S source) {
+		IObservableValue<T> observable;
+
+		ObservableTracker.setIgnore(true);
+		try {
+			observable = delegate.observe(realm, source);
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+
+		return new RateLimitedObservableValue<T>(observable, rateLimit,
+				getEquivalence());
+	}
+
+	public String toString() {
+		return delegate + " (" + rateLimit + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
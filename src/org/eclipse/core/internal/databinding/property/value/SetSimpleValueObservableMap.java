@@ -13,20 +13,29 @@
 
 package org.eclipse.core.internal.databinding.property.value;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.map.ComputedObservableMap;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.IEquivalence;
 import org.eclipse.core.databinding.property.INativePropertyListener;
 import org.eclipse.core.databinding.property.IPropertyObservable;
-import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.IValueIndexedObservable;
+import org.eclipse.core.databinding.property.IVersionedProperty;
 import org.eclipse.core.databinding.property.SimplePropertyEvent;
 import org.eclipse.core.databinding.property.value.SimpleValueProperty;
 import org.eclipse.core.internal.databinding.identity.IdentityMap;
 import org.eclipse.core.internal.databinding.identity.IdentitySet;
+import org.eclipse.core.internal.databinding.property.BucketMap;
+import org.eclipse.core.internal.databinding.property.RealmDispatchingListener;
 import org.eclipse.core.internal.databinding.property.Util;
 
 /**
@@ -34,56 +43,72 @@ import org.eclipse.core.internal.databinding.property.Util;
  */
 public class SetSimpleValueObservableMap<S, K extends S, V> extends
 ComputedObservableMap<K, V> implements
-IPropertyObservable<SimpleValueProperty<S, V>> {
+IPropertyObservable<SimpleValueProperty<S, V>>, IValueIndexedObservable<K, V> {
 private SimpleValueProperty<S, V> detailProperty;
+private IVersionedProperty<S> versionedProperty;
+private IEquivalence<? super V> equivalence;
 
 private INativePropertyListener<S> listener;
 
+/** Populates cachedValues in parallel if the property is thread safe */
+private Executor populationExecutor;
+
 private Map<K, V> cachedValues;
+private Map<K, Long> cachedVersions;
 private Set<K> staleKeys;
 
+/** Index of cachedValues by value, built on first use */
+private BucketMap<V, K> valueIndex;
+private ValueIndexObservableMap<K, V> valueIndexObservable;
+
 private boolean updating;
 
 /**
 * @param keySet
 * @param valueProperty
 */
+@SuppressWarnings("unchecked")
 public SetSimpleValueObservableMap(IObservableSet<K> keySet,
 	SimpleValueProperty<S, V> valueProperty) {
 		super(keySet, valueProperty.getValueType());
 		this.detailProperty = valueProperty;
+		this.equivalence = valueProperty.getEquivalence();
+		this.populationExecutor = ParallelPopulation.getExecutor(valueProperty);
+		if (valueProperty instanceof IVersionedProperty)
+			this.versionedProperty = (IVersionedProperty<S>) valueProperty;
 	}
 
 	protected void firstListenerAdded() {
 		if (listener == null) {
 			listener = detailProperty
-					.adaptListener(new ISimplePropertyListener<ValueDiff<V>>() {
-						public void handleEvent(
-								final SimplePropertyEvent<ValueDiff<V>> event) {
-							if (!isDisposed() && !updating) {
-								getRealm().exec(new Runnable() {
-									public void run() {
-										// TODO do we need to type the source as
-										// well?
-										@SuppressWarnings("unchecked") K source = (K) event
-												.getSource();
-										if (event.type == SimplePropertyEvent.CHANGE) {
-											notifyIfChanged(source);
-										} else if (event.type == SimplePropertyEvent.STALE) {
-											boolean wasStale = !staleKeys
-													.isEmpty();
-											staleKeys.add(source);
-											if (!wasStale)
-												fireStale();
-										}
-									}
-								});
+					.adaptListener(new RealmDispatchingListener<ValueDiff<V>>(
+							getRealm(), detailProperty) {
+						protected boolean isAccepting() {
+							return !isDisposed() && !updating;
+						}
+
+						protected void process(int type, Object eventSource,
+								ValueDiff<V> diff) {
+							@SuppressWarnings("unchecked") K source = (K) eventSource;
+							if (type == SimplePropertyEvent.CHANGE) {
+								notifyIfChanged(source);
+							} else if (type == SimplePropertyEvent.STALE) {
+								boolean wasStale = !staleKeys.isEmpty();
+								staleKeys.add(source);
+								if (!wasStale)
+									fireStale();
 							}
 						}
 					});
 		}
 		cachedValues = new IdentityMap<K, V>();
+		if (versionedProperty != null)
+			cachedVersions = new IdentityMap<K, Long>();
 		staleKeys = new IdentitySet<K>();
+		if (populationExecutor != null)
+			ParallelPopulation.populate(keySet(), detailProperty,
+					versionedProperty, listener, populationExecutor,
+					cachedValues, cachedVersions);
 		super.firstListenerAdded();
 	}
 
@@ -91,13 +116,22 @@ public SetSimpleValueObservableMap(IObservableSet<K> keySet,
 		super.lastListenerRemoved();
 		cachedValues.clear();
 		cachedValues = null;
+		cachedVersions = null;
 		staleKeys.clear();
 		staleKeys = null;
+		valueIndex = null;
 	}
 
 	protected void hookListener(K addedKey) {
-		if (cachedValues != null) {
-			cachedValues.put(addedKey, detailProperty.getValue(addedKey));
+		// keys populated in parallel are already cached and hooked
+		if (cachedValues != null && !cachedValues.containsKey(addedKey)) {
+			if (cachedVersions != null && addedKey != null)
+				cachedVersions.put(addedKey, Long.valueOf(versionedProperty
+						.getVersion(addedKey)));
+			V value = detailProperty.getValue(addedKey);
+			cachedValues.put(addedKey, value);
+			if (valueIndex != null)
+				valueIndex.put(addedKey, value);
 			if (listener != null)
 				listener.addTo(addedKey);
 		}
@@ -108,12 +142,18 @@ public SetSimpleValueObservableMap(IObservableSet<K> keySet,
 			if (listener != null)
 				listener.removeFrom(removedKey);
 			cachedValues.remove(removedKey);
+			if (valueIndex != null)
+				valueIndex.remove(removedKey);
+			if (cachedVersions != null)
+				cachedVersions.remove(removedKey);
 			staleKeys.remove(removedKey);
 		}
 	}
 
 	@SuppressWarnings("unchecked")
 	protected V doGet(Object key) {
+		if (isVersionUnchanged(key))
+			return cachedValues.get(key);
 		// NOTE/TODO: This is unsafe and may cause ClassCastExceptions in later
 		// code
 		// if this map is queried with keys that are not of type S
@@ -135,12 +175,48 @@ public SetSimpleValueObservableMap(IObservableSet<K> keySet,
 		return oldValue;
 	}
 
+	/**
+	 * Returns whether the cached value of the given key is known to be
+	 * current, because the version stamp of the detail property on the key has
+	 * not moved since the value was cached.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean isVersionUnchanged(Object key) {
+		if (cachedVersions == null || key == null)
+			return false;
+		Long cachedVersion = cachedVersions.get(key);
+		return cachedVersion != null
+				&& cachedVersion.longValue() == versionedProperty
+						.getVersion((S) key) && !staleKeys.contains(key);
+	}
+
 	private void notifyIfChanged(K key) {
 		if (cachedValues != null) {
+			Long cachedVersion = null;
+			long version = 0;
+			if (cachedVersions != null && key != null) {
+				cachedVersion = cachedVersions.get(key);
+				if (cachedVersion != null) {
+					version = versionedProperty.getVersion(key);
+					if (cachedVersion.longValue() == version
+							&& !staleKeys.contains(key))
+						return;
+				}
+			}
+			// cachedValues holds the values last reported to listeners, so
+			// that small changes accumulate under inexact equivalences
 			V oldValue = cachedValues.get(key);
 			V newValue = detailProperty.getValue(key);
-			if (!Util.equals(oldValue, newValue) || staleKeys.contains(key)) {
+			boolean changed = !equivalence.equivalent(oldValue, newValue);
+			boolean wasStale = staleKeys.contains(key);
+			if (changed || wasStale || equivalence.isExact()) {
 				cachedValues.put(key, newValue);
+				if (valueIndex != null)
+					valueIndex.put(key, newValue);
+				if (cachedVersion != null)
+					cachedVersions.put(key, Long.valueOf(version));
+			}
+			if (changed || wasStale) {
 				staleKeys.remove(key);
 				fireMapChange(Diffs.createMapDiffSingleChange(key, oldValue,
 						newValue));
@@ -148,6 +224,52 @@ public SetSimpleValueObservableMap(IObservableSet<K> keySet,
 		}
 	}
 
+	private BucketMap<V, K> valueIndex() {
+		if (valueIndex == null && cachedValues != null) {
+			valueIndex = new BucketMap<V, K>(false, true);
+			for (Iterator<Map.Entry<K, V>> it = cachedValues.entrySet()
+					.iterator(); it.hasNext();) {
+				Map.Entry<K, V> entry = it.next();
+				valueIndex.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return valueIndex;
+	}
+
+	public boolean containsValue(Object value) {
+		if (valueIndex() == null)
+			return super.containsValue(value);
+		ObservableTracker.getterCalled(this);
+		return valueIndex.containsKey(value);
+	}
+
+	public Set<K> getKeysForValue(Object value) {
+		ObservableTracker.getterCalled(this);
+		if (valueIndex() != null) {
+			Set<K> keys = valueIndex.get(value);
+			return keys == null ? Collections.<K> emptySet() : keys;
+		}
+		Set<K> keys = new IdentitySet<K>();
+		for (Iterator<Map.Entry<K, V>> it = entrySet().iterator(); it
+				.hasNext();) {
+			Map.Entry<K, V> entry = it.next();
+			if (Util.equals(entry.getValue(), value))
+				keys.add(entry.getKey());
+		}
+		return Collections.unmodifiableSet(keys);
+	}
+
+	public IObservableMap<V, Set<K>> getValueIndex() {
+		if (valueIndexObservable == null) {
+			valueIndexObservable = new ValueIndexObservableMap<K, V>(this) {
+				BucketMap<V, K> activateIndex() {
+					return valueIndex();
+				}
+			};
+		}
+		return valueIndexObservable;
+	}
+
 	public Object getObserved() {
 		return keySet();
 	}
@@ -161,6 +283,10 @@ public SetSimpleValueObservableMap(IObservableSet<K> keySet,
 	}
 
 	public synchronized void dispose() {
+		if (valueIndexObservable != null) {
+			valueIndexObservable.dispose();
+			valueIndexObservable = null;
+		}
 		if (cachedValues != null) {
 			cachedValues.clear();
 			cachedValues = null;
@@ -168,8 +294,12 @@ public SetSimpleValueObservableMap(IObservableSet<K> keySet,
 
 		listener = null;
 		detailProperty = null;
+		versionedProperty = null;
+		equivalence = null;
 		cachedValues = null;
+		cachedVersions = null;
 		staleKeys = null;
+		valueIndex = null;
 
 		super.dispose();
 	}
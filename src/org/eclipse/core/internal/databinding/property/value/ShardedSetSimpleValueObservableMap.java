@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.map.ComputedObservableMap;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.IDirectPropertyListener;
+import org.eclipse.core.databinding.property.IEquivalence;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.SimpleValueProperty;
+import org.eclipse.core.internal.databinding.identity.IdentityMap;
+import org.eclipse.core.internal.databinding.identity.IdentitySet;
+
+/**
+ * A detail value map over a master set which partitions the master elements
+ * by identity hash into shards. Each shard keeps its own cached values and
+ * native listener, and hooks and unhooks its elements in batches on an
+ * executor, one batch of a shard at a time, so that the shards work in
+ * parallel. Changes detected by the shards on any thread are merged into one
+ * map diff, which is fired in the realm of the map.
+ *
+ * @since 1.5
+ */
+public class ShardedSetSimpleValueObservableMap<S, K extends S, V> extends
+		ComputedObservableMap<K, V> implements
+		IPropertyObservable<SimpleValueProperty<S, V>> {
+	private final IObservableSet<K> keySet;
+	private final SimpleValueProperty<S, V> detailProperty;
+	private final IEquivalence<? super V> equivalence;
+	private final Executor executor;
+	private final Shard[] shards;
+
+	private volatile boolean disposed;
+
+	/** Merged changes of all shards, guarded by itself */
+	private final Object pendingLock = new Object();
+	private Map<K, V> pendingOldValues = new IdentityMap<K, V>();
+	private Map<K, V> pendingNewValues = new IdentityMap<K, V>();
+	private boolean pendingStale;
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+	private final Runnable flushTask = new Runnable() {
+		public void run() {
+			flush();
+		}
+	};
+
+	/** Whether staleness was fired and not cleared yet, accessed in the realm */
+	private boolean staleFired;
+
+	/**
+	 * @param keySet
+	 * @param valueProperty
+	 * @param executor
+	 *            the executor running the hooking and unhooking of the shards
+	 * @param shardCount
+	 *            the number of shards
+	 */
+	@SuppressWarnings("unchecked")
+	public ShardedSetSimpleValueObservableMap(IObservableSet<K> keySet,
+			SimpleValueProperty<S, V> valueProperty, Executor executor,
+			int shardCount) {
+		super(keySet, valueProperty.getValueType());
+		this.keySet = keySet;
+		this.detailProperty = valueProperty;
+		this.equivalence = valueProperty.getEquivalence();
+		this.executor = executor;
+		this.shards = new ShardedSetSimpleValueObservableMap.Shard[shardCount];
+		for (int i = 0; i < shardCount; i++)
+			shards[i] = new Shard();
+	}
+
+	private Shard shardFor(Object key) {
+		return shards[(System.identityHashCode(key) & 0x7FFFFFFF)
+				% shards.length];
+	}
+
+	protected void hookListener(K addedKey) {
+		// the value reported for the added key is read in the realm, so the
+		// shard starts from that value and reports any change until it hooks
+		shardFor(addedKey).schedule(addedKey, false,
+				detailProperty.getValue(addedKey));
+	}
+
+	protected void unhookListener(K removedKey) {
+		shardFor(removedKey).schedule(removedKey, true, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected V doGet(Object key) {
+		// only called for elements of the key set, which are of type K
+		return detailProperty.getValue((K) key);
+	}
+
+	protected V doPut(K key, V value) {
+		V oldValue = detailProperty.getValue(key);
+		detailProperty.setValue(key, value);
+		shardFor(key).refresh(key);
+		return oldValue;
+	}
+
+	private void changed(K key, V oldValue, V newValue) {
+		synchronized (pendingLock) {
+			if (!pendingOldValues.containsKey(key))
+				pendingOldValues.put(key, oldValue);
+			pendingNewValues.put(key, newValue);
+		}
+		scheduleFlush();
+	}
+
+	private void becameStale() {
+		synchronized (pendingLock) {
+			pendingStale = true;
+		}
+		scheduleFlush();
+	}
+
+	private void scheduleFlush() {
+		if (getRealm().isCurrent())
+			flush();
+		else if (flushScheduled.compareAndSet(false, true))
+			getRealm().asyncExec(flushTask);
+	}
+
+	/**
+	 * Fires the merged changes of the shards. Called in the realm.
+	 */
+	private void flush() {
+		flushScheduled.set(false);
+		Map<K, V> oldValues;
+		Map<K, V> newValues;
+		boolean stale;
+		synchronized (pendingLock) {
+			if (pendingNewValues.isEmpty() && !pendingStale)
+				return;
+			oldValues = pendingOldValues;
+			newValues = pendingNewValues;
+			stale = pendingStale;
+			pendingOldValues = new IdentityMap<K, V>();
+			pendingNewValues = new IdentityMap<K, V>();
+			pendingStale = false;
+		}
+		if (disposed || !hasListeners())
+			return;
+
+		if (stale && !staleFired) {
+			staleFired = true;
+			fireStale();
+		}
+
+		Set<K> changedKeys = new IdentitySet<K>();
+		for (Iterator<K> it = newValues.keySet().iterator(); it.hasNext();) {
+			K key = it.next();
+			// the key may have been removed from the master meanwhile
+			if (keySet.contains(key))
+				changedKeys.add(key);
+		}
+		if (staleFired)
+			staleFired = isShardStale();
+		if (!changedKeys.isEmpty())
+			fireMapChange(Diffs.createMapDiff(Collections.<K> emptySet(),
+					Collections.<K> emptySet(), changedKeys, oldValues,
+					newValues));
+	}
+
+	private boolean isShardStale() {
+		for (int i = 0; i < shards.length; i++) {
+			if (shards[i].isStale())
+				return true;
+		}
+		return false;
+	}
+
+	public Object getObserved() {
+		return keySet();
+	}
+
+	public SimpleValueProperty<S, V> getProperty() {
+		return detailProperty;
+	}
+
+	public boolean isStale() {
+		return super.isStale() || isShardStale();
+	}
+
+	public synchronized void dispose() {
+		disposed = true;
+		for (int i = 0; i < shards.length; i++)
+			shards[i].dispose();
+		synchronized (pendingLock) {
+			pendingOldValues.clear();
+			pendingNewValues.clear();
+		}
+		super.dispose();
+	}
+
+	private final class Shard implements Runnable {
+		private final INativePropertyListener<S> listener;
+
+		/** The elements of the shard and their values, guarded by this */
+		private final Map<K, V> cachedValues = new IdentityMap<K, V>();
+		private final Set<K> staleKeys = new IdentitySet<K>();
+
+		/**
+		 * Keys to hook or unhook, in order, and the values reported for the
+		 * keys to hook, guarded by queueLock
+		 */
+		private final Object queueLock = new Object();
+		private List<K> pending = new ArrayList<K>();
+		private List<V> pendingValues = new ArrayList<V>();
+		private BitSet pendingRemovals = new BitSet();
+		private boolean scheduled;
+
+		Shard() {
+			listener = detailProperty
+					.adaptListener(new IDirectPropertyListener<ValueDiff<V>>() {
+						public void handleEvent(
+								SimplePropertyEvent<ValueDiff<V>> event) {
+							if (event.type == SimplePropertyEvent.CHANGE)
+								refresh(event.getSource());
+							else if (event.type == SimplePropertyEvent.STALE)
+								markStale(event.getSource());
+						}
+
+						public void handleChange(Object source,
+								ValueDiff<V> diff) {
+							refresh(source);
+						}
+
+						public void handleStale(Object source) {
+							markStale(source);
+						}
+					});
+		}
+
+		void schedule(K key, boolean remove, V reportedValue) {
+			boolean submit;
+			synchronized (queueLock) {
+				if (remove)
+					pendingRemovals.set(pending.size());
+				pending.add(key);
+				pendingValues.add(reportedValue);
+				submit = !scheduled;
+				scheduled = true;
+			}
+			if (submit)
+				executor.execute(this);
+		}
+
+		/**
+		 * Hooks and unhooks the pending keys, until none are left. Only one
+		 * thread runs this at a time, so that the batches of a shard are
+		 * processed in order.
+		 */
+		public void run() {
+			for (;;) {
+				List<K> keys;
+				List<V> reportedValues;
+				BitSet removals;
+				synchronized (queueLock) {
+					if (pending.isEmpty()) {
+						scheduled = false;
+						return;
+					}
+					keys = pending;
+					reportedValues = pendingValues;
+					removals = pendingRemovals;
+					pending = new ArrayList<K>();
+					pendingValues = new ArrayList<V>();
+					pendingRemovals = new BitSet();
+				}
+				for (int i = 0; i < keys.size(); i++) {
+					if (removals.get(i))
+						unhook(keys.get(i));
+					else
+						hook(keys.get(i), reportedValues.get(i));
+				}
+			}
+		}
+
+		private void hook(K key, V reportedValue) {
+			synchronized (this) {
+				if (disposed || cachedValues.containsKey(key))
+					return;
+				cachedValues.put(key, reportedValue);
+				// listen before reading, so that no change after reading is
+				// missed
+				if (listener != null)
+					listener.addTo(key);
+			}
+			// report a change between the read in the realm and hooking
+			refresh(key);
+		}
+
+		private synchronized void unhook(K key) {
+			if (!cachedValues.containsKey(key))
+				return;
+			if (listener != null)
+				listener.removeFrom(key);
+			cachedValues.remove(key);
+			staleKeys.remove(key);
+		}
+
+		void refresh(Object source) {
+			K key;
+			V oldValue;
+			V newValue;
+			synchronized (this) {
+				if (!cachedValues.containsKey(source))
+					return;
+				@SuppressWarnings("unchecked")
+				K k = (K) source;
+				key = k;
+				// cachedValues holds the values last reported, so that small
+				// changes accumulate under inexact equivalences
+				oldValue = cachedValues.get(key);
+				newValue = detailProperty.getValue(key);
+				boolean changed = !equivalence.equivalent(oldValue, newValue);
+				boolean wasStale = staleKeys.remove(key);
+				if (changed || wasStale || equivalence.isExact())
+					cachedValues.put(key, newValue);
+				if (!changed && !wasStale)
+					return;
+			}
+			changed(key, oldValue, newValue);
+		}
+
+		void markStale(Object source) {
+			synchronized (this) {
+				if (!cachedValues.containsKey(source))
+					return;
+				@SuppressWarnings("unchecked")
+				K key = (K) source;
+				if (!staleKeys.add(key))
+					return;
+			}
+			becameStale();
+		}
+
+		synchronized boolean isStale() {
+			return !staleKeys.isEmpty();
+		}
+
+		synchronized void dispose() {
+			if (listener != null) {
+				for (Iterator<K> it = cachedValues.keySet().iterator(); it
+						.hasNext();)
+					listener.removeFrom(it.next());
+			}
+			cachedValues.clear();
+			staleKeys.clear();
+		}
+	}
+}
@@ -17,79 +17,120 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.IEquivalence;
 import org.eclipse.core.databinding.property.INativePropertyListener;
 import org.eclipse.core.databinding.property.IPropertyObservable;
-import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.IVersionedProperty;
+import org.eclipse.core.databinding.property.PropertyTracing;
 import org.eclipse.core.databinding.property.SimplePropertyEvent;
 import org.eclipse.core.databinding.property.value.SimpleValueProperty;
-import org.eclipse.core.internal.databinding.property.Util;
+import org.eclipse.core.internal.databinding.property.IDiagnosableObservable;
+import org.eclipse.core.internal.databinding.property.MetricsRecorder;
+import org.eclipse.core.internal.databinding.property.ObservableRegistry;
+import org.eclipse.core.internal.databinding.property.RealmDispatchingListener;
+import org.eclipse.core.internal.databinding.property.Tracer;
 
 /**
  * @since 1.2
  * 
  */
 public class SimplePropertyObservableValue<S, T> extends AbstractObservableValue<T> implements
-		IPropertyObservable<SimpleValueProperty<S, T>> {
+		IPropertyObservable<SimpleValueProperty<S, T>>, IDiagnosableObservable {
 	private S source;
 	private SimpleValueProperty<S, T> property;
+	private IVersionedProperty<S> versionedProperty;
+	private IEquivalence<? super T> equivalence;
 
 	private boolean updating = false;
 	private T cachedValue;
+	private long cachedVersion;
 	private boolean stale;
 
 	private INativePropertyListener<S> listener;
 
+	/** The token of the hooked source metric, if this observable was counted */
+	private Object hookedToken;
+
+	private RealmDispatchingListener<ValueDiff<T>> dispatcher;
+
+	private ObservableRegistry.Registration registration;
+
 	/**
 	 * @param realm
 	 * @param source
 	 * @param property
 	 */
+	@SuppressWarnings("unchecked")
 	public SimplePropertyObservableValue(Realm realm, S source, SimpleValueProperty<S, T> property) {
 		super(realm);
 		this.source = source;
 		this.property = property;
+		this.registration = ObservableRegistry.register(this, property,
+				source);
+		this.equivalence = property.getEquivalence();
+		if (property instanceof IVersionedProperty && source != null)
+			this.versionedProperty = (IVersionedProperty<S>) property;
 	}
 
 	protected void firstListenerAdded() {
 		if (!isDisposed()) {
 			if (listener == null) {
-				listener = property.adaptListener(new ISimplePropertyListener<ValueDiff<T>>() {
-					public void handleEvent(final SimplePropertyEvent<ValueDiff<T>> event) {
-						if (!isDisposed() && !updating) {
-							getRealm().exec(new Runnable() {
-								public void run() {
-									if (event.type == SimplePropertyEvent.CHANGE) {
-										notifyIfChanged(event.diff);
-									} else if (event.type == SimplePropertyEvent.STALE && !stale) {
-										stale = true;
-										fireStale();
-									}
-								}
-							});
+				dispatcher = new RealmDispatchingListener<ValueDiff<T>>(getRealm(), property,
+						RealmDispatchingListener.LATEST_WINS) {
+					protected boolean isAccepting() {
+						return !isDisposed() && !updating;
+					}
+
+					protected void process(int type, Object eventSource, ValueDiff<T> diff) {
+						if (registration != null)
+							registration.touch();
+						if (type == SimplePropertyEvent.CHANGE) {
+							if (!notifyIfChanged(diff) && MetricsRecorder.enabled)
+								MetricsRecorder.changeSuppressed(property);
+						} else if (type == SimplePropertyEvent.STALE && !stale) {
+							stale = true;
+							fireStale();
 						}
 					}
-				});
+				};
+				listener = property.adaptListener(dispatcher);
 			}
 			getRealm().exec(new Runnable() {
 				public void run() {
+					if (versionedProperty != null)
+						cachedVersion = versionedProperty.getVersion(source);
 					cachedValue = property.getValue(source);
 					stale = false;
-					if (listener != null)
+					if (listener != null) {
 						listener.addTo(source);
+						if (MetricsRecorder.enabled)
+							hookedToken = MetricsRecorder.sourceHooked(property);
+					}
 				}
 			});
 		}
 	}
 
 	protected void lastListenerRemoved() {
-		if (listener != null)
+		if (listener != null) {
 			listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
+		}
 		cachedValue = null;
 		stale = false;
 	}
 
 	protected T doGetValue() {
 		notifyIfChanged(null);
+		if (versionedProperty != null && hasListeners() && !stale
+				&& versionedProperty.getVersion(source) == cachedVersion) {
+			if (MetricsRecorder.enabled)
+				MetricsRecorder.cacheHit(property);
+			return cachedValue;
+		}
 		return property.getValue(source);
 	}
 
@@ -104,17 +145,41 @@ public class SimplePropertyObservableValue<S, T> extends AbstractObservableValue
 		notifyIfChanged(null);
 	}
 
-	private void notifyIfChanged(ValueDiff<T> diff) {
+	/**
+	 * @return whether a change was fired
+	 */
+	private boolean notifyIfChanged(ValueDiff<T> diff) {
 		if (hasListeners()) {
+			long version = 0;
+			if (versionedProperty != null) {
+				version = versionedProperty.getVersion(source);
+				if (version == cachedVersion && !stale)
+					return false;
+			}
+			long start = Tracer.start(PropertyTracing.NOTIFY);
+			// cachedValue is the value last reported to listeners, so that
+			// small changes accumulate under inexact equivalences
 			T oldValue = cachedValue;
-			T newValue = cachedValue = property.getValue(source);
-			if (diff == null)
-				diff = Diffs.createValueDiff(oldValue, newValue);
-			if (!Util.equals(oldValue, newValue) || stale) {
+			T newValue = property.getValue(source);
+			boolean changed = !equivalence.equivalent(oldValue, newValue);
+			if (changed || stale || equivalence.isExact()) {
+				cachedValue = newValue;
+				cachedVersion = version;
+			}
+			boolean fire = changed || stale;
+			if (fire) {
 				stale = false;
+				if (diff == null)
+					diff = Diffs.createValueDiff(oldValue, newValue);
+				if (MetricsRecorder.enabled)
+					MetricsRecorder.changeFired(property, 1);
 				fireValueChange(diff);
 			}
+			Tracer.end(PropertyTracing.NOTIFY, property, source, fire ? 1 : 0,
+					start);
+			return fire;
 		}
+		return false;
 	}
 
 	public Object getValueType() {
@@ -134,12 +199,33 @@ public class SimplePropertyObservableValue<S, T> extends AbstractObservableValue
 		return stale;
 	}
 
+	public boolean isHooked() {
+		return listener != null && hasListeners();
+	}
+
+	public long estimateCacheFootprint() {
+		return 0;
+	}
+
+	public long getCoalescedChangeCount() {
+		RealmDispatchingListener<?> dispatcher = this.dispatcher;
+		return dispatcher == null ? 0 : dispatcher.getDroppedCount();
+	}
+
 	public synchronized void dispose() {
 		if (!isDisposed()) {
+			ObservableRegistry.unregister(registration);
+			registration = null;
 			if (listener != null)
 				listener.removeFrom(source);
+			if (hookedToken != null) {
+				MetricsRecorder.sourceUnhooked(hookedToken);
+				hookedToken = null;
+			}
 			source = null;
 			property = null;
+			versionedProperty = null;
+			equivalence = null;
 			listener = null;
 			stale = false;
 		}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.IObserving;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.StaleEvent;
+import org.eclipse.core.databinding.observable.map.AbstractObservableMap;
+import org.eclipse.core.databinding.observable.map.IMapChangeListener;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.internal.databinding.identity.IdentitySet;
+import org.eclipse.core.internal.databinding.property.BucketMap;
+
+/**
+ * An unmodifiable observable map from each value of a source map to the set
+ * of keys mapped to that value.
+ * <p>
+ * While the map has listeners, it is a view of the value index of the source
+ * map, which the source map updates before notifying its own listeners; on
+ * each change of the source map, the buckets of the index which changed are
+ * reported.
+ *
+ * @since 1.5
+ */
+abstract class ValueIndexObservableMap<K, V> extends
+		AbstractObservableMap<V, Set<K>> implements IObserving {
+	private IObservableMap<K, V> source;
+	private BucketMap<V, K> index;
+
+	private IMapChangeListener<K, V> sourceListener = new IMapChangeListener<K, V>() {
+		public void handleMapChange(MapChangeEvent<K, V> event) {
+			indexChanged();
+		}
+	};
+
+	private IStaleListener staleListener = new IStaleListener() {
+		public void handleStale(StaleEvent staleEvent) {
+			fireStale();
+		}
+	};
+
+	/**
+	 * @param source
+	 */
+	ValueIndexObservableMap(IObservableMap<K, V> source) {
+		super(source.getRealm());
+		this.source = source;
+	}
+
+	/**
+	 * Returns the value index of the source map, building it if necessary.
+	 * Called while the source map has listeners.
+	 *
+	 * @return the value index of the source map
+	 */
+	abstract BucketMap<V, K> activateIndex();
+
+	/**
+	 * Fires the changes of the index since the last notification. Called by
+	 * the source map after changes of the index which it does not report in
+	 * its own change event.
+	 */
+	void indexChanged() {
+		if (isDisposed() || index == null)
+			return;
+		MapDiff<V, Set<K>> diff = index.takeDiff();
+		if (diff != null)
+			fireMapChange(diff);
+	}
+
+	protected void firstListenerAdded() {
+		if (isDisposed())
+			return;
+		source.addMapChangeListener(sourceListener);
+		source.addStaleListener(staleListener);
+		index = activateIndex();
+		if (index != null)
+			index.setTracking(true);
+	}
+
+	protected void lastListenerRemoved() {
+		if (source != null) {
+			source.removeMapChangeListener(sourceListener);
+			source.removeStaleListener(staleListener);
+		}
+		if (index != null) {
+			index.setTracking(false);
+			index = null;
+		}
+	}
+
+	private Map<V, Set<K>> getWrappedMap() {
+		if (index != null)
+			return index.asMap();
+
+		Map<V, Set<K>> result = new HashMap<V, Set<K>>();
+		for (Iterator<Map.Entry<K, V>> it = source.entrySet().iterator(); it
+				.hasNext();) {
+			Map.Entry<K, V> entry = it.next();
+			Set<K> keys = result.get(entry.getValue());
+			if (keys == null)
+				result.put(entry.getValue(), keys = new IdentitySet<K>());
+			keys.add(entry.getKey());
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	private void getterCalled() {
+		ObservableTracker.getterCalled(this);
+	}
+
+	public Set<Map.Entry<V, Set<K>>> entrySet() {
+		getterCalled();
+		return getWrappedMap().entrySet();
+	}
+
+	public Set<K> get(Object value) {
+		getterCalled();
+		return getWrappedMap().get(value);
+	}
+
+	public boolean containsKey(Object value) {
+		getterCalled();
+		return getWrappedMap().containsKey(value);
+	}
+
+	public int size() {
+		getterCalled();
+		return getWrappedMap().size();
+	}
+
+	public Object getKeyType() {
+		return source.getValueType();
+	}
+
+	public Object getValueType() {
+		return Set.class;
+	}
+
+	public boolean isStale() {
+		getterCalled();
+		return source.isStale();
+	}
+
+	public Object getObserved() {
+		return source;
+	}
+
+	public synchronized void dispose() {
+		if (source != null)
+			lastListenerRemoved();
+		source = null;
+		sourceListener = null;
+		staleListener = null;
+		super.dispose();
+	}
+}